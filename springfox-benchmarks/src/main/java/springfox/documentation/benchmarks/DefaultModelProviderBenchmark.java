@@ -0,0 +1,58 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.benchmarks;
+
+import com.fasterxml.classmate.ResolvedType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import springfox.documentation.schema.DefaultModelProvider;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spi.service.contexts.DocumentationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static springfox.documentation.spi.schema.contexts.ModelContext.returnValue;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DefaultModelProviderBenchmark {
+
+    /**
+     * Reads the model of the type returned by each endpoint.
+     */
+    @Benchmark
+    public void modelFor(SyntheticApiState state, Blackhole blackhole) {
+        DefaultModelProvider modelProvider = state.getBean(DefaultModelProvider.class);
+        DocumentationContext context = state.getDocumentationContext();
+        for (ResolvedType each : state.getReturnTypes()) {
+            blackhole.consume(modelProvider.modelFor(returnValue(each, DocumentationType.SWAGGER_2,
+                    context.getAlternateTypeProvider(), context.getGenericsNamingStrategy())));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.benchmarks;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.List;
+
+import static com.google.common.base.Throwables.propagate;
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * The controllers and models synthesized by {@link SyntheticApiGenerator}.
+ */
+public class SyntheticApi implements Closeable {
+    private final File directory;
+    private final ClassLoader classLoader;
+    private final List<String> controllerNames;
+    private final List<String> rootModelNames;
+    private final boolean generics;
+
+    SyntheticApi(File directory,
+                 ClassLoader classLoader,
+                 List<String> controllerNames,
+                 List<String> rootModelNames,
+                 boolean generics) {
+        this.directory = directory;
+        this.classLoader = classLoader;
+        this.controllerNames = controllerNames;
+        this.rootModelNames = rootModelNames;
+        this.generics = generics;
+    }
+
+    public ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    public Class<?>[] getControllers() {
+        List<Class<?>> controllers = newArrayList();
+        for (String each : controllerNames) {
+            controllers.add(load(each));
+        }
+        return controllers.toArray(new Class<?>[controllers.size()]);
+    }
+
+    /**
+     * @param typeResolver - resolver of the generic types
+     * @return the types returned by the endpoints, one per endpoint
+     */
+    public List<ResolvedType> getReturnTypes(TypeResolver typeResolver) {
+        List<ResolvedType> returnTypes = newArrayList();
+        for (String each : rootModelNames) {
+            if (generics) {
+                returnTypes.add(typeResolver.resolve(load(SyntheticApiGenerator.PACKAGE + ".Page"), load(each)));
+            } else {
+                returnTypes.add(typeResolver.resolve(load(each)));
+            }
+        }
+        return returnTypes;
+    }
+
+    /**
+     * Deletes the generated sources and classes.
+     */
+    @Override
+    public void close() {
+        delete(directory);
+    }
+
+    private Class<?> load(String className) {
+        try {
+            return Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw propagate(e);
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File each : children) {
+                delete(each);
+            }
+        }
+        if (!file.delete()) {
+            file.deleteOnExit();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.benchmarks;
+
+import com.google.common.io.Files;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * Synthesizes the controllers and model graphs of an api of a given size. The sources are generated, compiled with
+ * the system java compiler and loaded in a class loader of their own, so the api is made of plain classes that are
+ * scanned like any other.
+ * <p/>
+ * Each endpoint returns a model graph of its own, {@link #modelDepth(int)} models deep. All graphs share an audit
+ * model. With {@link #generics(boolean)} the endpoints return a page of their model and the models refer to the next
+ * level through a generic envelope, and with {@link #cycles(boolean)} every model refers back to the root of its graph.
+ * The endpoints are spread over {@link #controllers(int)} controllers, every other one is a POST with a request body.
+ */
+public class SyntheticApiGenerator {
+    static final String PACKAGE = "springfox.documentation.benchmarks.generated";
+
+    private int endpoints = 10;
+    private int controllers = 1;
+    private int modelDepth = 1;
+    private boolean generics;
+    private boolean cycles;
+
+    public SyntheticApiGenerator endpoints(int endpoints) {
+        checkArgument(endpoints > 0, "There must be at least one endpoint");
+        this.endpoints = endpoints;
+        return this;
+    }
+
+    public SyntheticApiGenerator controllers(int controllers) {
+        checkArgument(controllers > 0, "There must be at least one controller");
+        this.controllers = controllers;
+        return this;
+    }
+
+    public SyntheticApiGenerator modelDepth(int modelDepth) {
+        checkArgument(modelDepth > 0, "The model depth must be at least one");
+        this.modelDepth = modelDepth;
+        return this;
+    }
+
+    public SyntheticApiGenerator generics(boolean generics) {
+        this.generics = generics;
+        return this;
+    }
+
+    public SyntheticApiGenerator cycles(boolean cycles) {
+        this.cycles = cycles;
+        return this;
+    }
+
+    /**
+     * Generates and compiles the api in a new temporary directory.
+     *
+     * @return the generated api
+     * @throws IOException when the sources cannot be written
+     */
+    public SyntheticApi generate() throws IOException {
+        File directory = Files.createTempDir();
+        File sources = new File(directory, "sources");
+        File classes = new File(directory, "classes");
+        if (!sources.mkdirs() || !classes.mkdirs()) {
+            throw new IOException("Unable to create the directories of the synthetic api in " + directory);
+        }
+        List<File> files = newArrayList();
+        files.add(write(sources, "Audit", audit()));
+        if (generics) {
+            files.add(write(sources, "Page", page()));
+            files.add(write(sources, "Envelope", envelope()));
+        }
+        for (int endpoint = 0; endpoint < endpoints; endpoint++) {
+            for (int level = 0; level < modelDepth; level++) {
+                files.add(write(sources, modelName(endpoint, level), model(endpoint, level)));
+            }
+        }
+        List<String> controllerNames = newArrayList();
+        for (int controller = 0; controller < Math.min(controllers, endpoints); controller++) {
+            controllerNames.add(PACKAGE + "." + controllerName(controller));
+            files.add(write(sources, controllerName(controller), controller(controller)));
+        }
+        compile(files, classes);
+
+        ClassLoader classLoader = new URLClassLoader(new URL[]{classes.toURI().toURL()},
+                SyntheticApiGenerator.class.getClassLoader());
+        List<String> rootModelNames = newArrayList();
+        for (int endpoint = 0; endpoint < endpoints; endpoint++) {
+            rootModelNames.add(PACKAGE + "." + modelName(endpoint, 0));
+        }
+        return new SyntheticApi(directory, classLoader, controllerNames, rootModelNames, generics);
+    }
+
+    private String audit() {
+        return new Source()
+                .line("public class Audit {")
+                .property("String", "createdBy")
+                .property("java.util.Date", "createdAt")
+                .line("}")
+                .toString();
+    }
+
+    private String page() {
+        return new Source()
+                .line("public class Page<T> {")
+                .property("java.util.List<T>", "content")
+                .property("int", "total")
+                .line("}")
+                .toString();
+    }
+
+    private String envelope() {
+        return new Source()
+                .line("public class Envelope<T> {")
+                .property("T", "value")
+                .property("java.util.Map<String, String>", "links")
+                .line("}")
+                .toString();
+    }
+
+    private String model(int endpoint, int level) {
+        Source source = new Source()
+                .line("public class %s {", modelName(endpoint, level))
+                .property("long", "id")
+                .property("String", "name")
+                .property("java.util.List<String>", "tags");
+        if (level == 0) {
+            source.property("Audit", "audit");
+        }
+        if (level + 1 < modelDepth) {
+            String child = modelName(endpoint, level + 1);
+            source.property(generics ? String.format("Envelope<%s>", child) : child, "child");
+        }
+        if (cycles) {
+            source.property(modelName(endpoint, 0), "root");
+        }
+        return source.line("}").toString();
+    }
+
+    private String controller(int controller) {
+        Source source = new Source()
+                .line("@org.springframework.stereotype.Controller")
+                .line("@RequestMapping(\"/resources%d\")", controller)
+                .line("public class %s {", controllerName(controller));
+        for (int endpoint = controller; endpoint < endpoints; endpoint += controllers) {
+            String model = modelName(endpoint, 0);
+            String returnType = generics ? String.format("Page<%s>", model) : model;
+            if (endpoint % 2 == 0) {
+                source.line("  @RequestMapping(value = \"/endpoint%d/{id}\", method = RequestMethod.GET)", endpoint)
+                        .line("  @ResponseBody")
+                        .line("  public %s endpoint%d(@PathVariable(\"id\") long id,", returnType, endpoint)
+                        .line("      @RequestParam(value = \"filter\", required = false) String filter) {");
+            } else {
+                source.line("  @RequestMapping(value = \"/endpoint%d\", method = RequestMethod.POST)", endpoint)
+                        .line("  @ResponseBody")
+                        .line("  public %s endpoint%d(@RequestBody %s body) {", returnType, endpoint, model);
+            }
+            source.line("    return null;")
+                    .line("  }");
+        }
+        return source.line("}").toString();
+    }
+
+    private static String modelName(int endpoint, int level) {
+        return String.format("Model%dLevel%d", endpoint, level);
+    }
+
+    private static String controllerName(int controller) {
+        return String.format("Controller%d", controller);
+    }
+
+    private static File write(File directory, String className, String source) throws IOException {
+        File file = new File(directory, className + ".java");
+        Files.write(source, file, UTF_8);
+        return file;
+    }
+
+    private static void compile(List<File> sources, File classes) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("The synthetic api can only be compiled when running on a JDK");
+        }
+        List<String> arguments = newArrayList(
+                "-nowarn",
+                "-encoding", UTF_8.name(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.getAbsolutePath());
+        for (File each : sources) {
+            arguments.add(each.getAbsolutePath());
+        }
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        if (compiler.run(null, null, errors, arguments.toArray(new String[arguments.size()])) != 0) {
+            throw new IllegalStateException("Unable to compile the synthetic api: " + new String(errors.toByteArray(),
+                    UTF_8));
+        }
+    }
+
+    /**
+     * Source of a generated class, which declares the generated package and imports the spring web annotations.
+     */
+    private static class Source {
+        private final StringBuilder source = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import org.springframework.web.bind.annotation.*;\n\n");
+
+        Source line(String format, Object... args) {
+            source.append(String.format(format, args)).append('\n');
+            return this;
+        }
+
+        Source property(String type, String name) {
+            String accessor = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            return line("  private %s %s;", type, name)
+                    .line("  public %s get%s() {", type, accessor)
+                    .line("    return %s;", name)
+                    .line("  }")
+                    .line("  public void set%s(%s %s) {", accessor, type, name)
+                    .line("    this.%s = %s;", name, name)
+                    .line("  }");
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
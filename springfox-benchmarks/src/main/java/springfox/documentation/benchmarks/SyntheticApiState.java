@@ -0,0 +1,157 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.benchmarks;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.TypeResolver;
+import io.swagger.models.Swagger;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spi.service.RequestHandlerProvider;
+import springfox.documentation.spi.service.contexts.Defaults;
+import springfox.documentation.spi.service.contexts.DocumentationContext;
+import springfox.documentation.spring.web.plugins.DefaultConfiguration;
+import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.DocumentationPluginsManager;
+import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * Boots springfox for a synthetic api of the benchmarked size. The documentation is scanned once during the setup,
+ * so the caches are warm when a benchmark starts unless caching is turned off.
+ */
+@State(Scope.Benchmark)
+public class SyntheticApiState {
+    private static final String[] CACHES = {"models", "model-properties", "model-dependencies", "operations"};
+
+    @Param({"10", "100", "500"})
+    public int endpoints;
+
+    @Param({"10"})
+    public int endpointsPerController;
+
+    @Param({"1", "4"})
+    public int modelDepth;
+
+    @Param({"false", "true"})
+    public boolean generics;
+
+    @Param({"false", "true"})
+    public boolean cycles;
+
+    @Param({"true"})
+    public boolean caching;
+
+    @Param({"1", "4"})
+    public int scanParallelism;
+
+    private SyntheticApi api;
+    private AnnotationConfigWebApplicationContext applicationContext;
+    private DocumentationContext documentationContext;
+    private List<ResolvedType> returnTypes;
+    private Documentation documentation;
+    private Swagger swagger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        api = new SyntheticApiGenerator()
+                .endpoints(endpoints)
+                .controllers(Math.max(1, endpoints / endpointsPerController))
+                .modelDepth(modelDepth)
+                .generics(generics)
+                .cycles(cycles)
+                .generate();
+        applicationContext = new AnnotationConfigWebApplicationContext();
+        applicationContext.setClassLoader(api.getClassLoader());
+        applicationContext.setServletContext(new MockServletContext());
+        applicationContext.getEnvironment().getPropertySources()
+                .addFirst(new MapPropertySource("benchmark", properties()));
+        applicationContext.register(BenchmarkConfiguration.class);
+        applicationContext.register(api.getControllers());
+        applicationContext.refresh();
+
+        documentationContext = applicationContext.getBean(Docket.class).configure(
+                applicationContext.getBean(DocumentationPluginsManager.class)
+                        .createContextBuilder(DocumentationType.SWAGGER_2, new DefaultConfiguration(
+                                applicationContext.getBean(Defaults.class),
+                                applicationContext.getBean(TypeResolver.class),
+                                applicationContext.getServletContext()))
+                        .requestHandlers(applicationContext.getBean(RequestHandlerProvider.class).requestHandlers()));
+        returnTypes = api.getReturnTypes(getBean(TypeResolver.class));
+        documentation = getBean(ApiDocumentationScanner.class).scan(documentationContext);
+        swagger = getBean(ServiceModelToSwagger2Mapper.class).mapDocumentation(documentation);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+        api.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return applicationContext.getBean(type);
+    }
+
+    public SyntheticApi getApi() {
+        return api;
+    }
+
+    public DocumentationContext getDocumentationContext() {
+        return documentationContext;
+    }
+
+    public List<ResolvedType> getReturnTypes() {
+        return returnTypes;
+    }
+
+    public Documentation getDocumentation() {
+        return documentation;
+    }
+
+    public Swagger getSwagger() {
+        return swagger;
+    }
+
+    private Map<String, Object> properties() {
+        Map<String, Object> properties = newHashMap();
+        //The documentation is scanned by the benchmarks rather than when the context is refreshed
+        properties.put("springfox.documentation.bootstrap.lazy", "true");
+        properties.put("springfox.documentation.scan.parallelism", String.valueOf(scanParallelism));
+        for (String each : CACHES) {
+            properties.put(String.format("springfox.documentation.cache.%s.enabled", each), String.valueOf(caching));
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.benchmarks
+
+import com.fasterxml.classmate.TypeResolver
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class SyntheticApiGeneratorSpec extends Specification {
+    def api
+
+    def cleanup() {
+        api?.close()
+    }
+
+    def "Endpoints are spread over the controllers"() {
+        when:
+        api = new SyntheticApiGenerator().endpoints(5).controllers(2).generate()
+        def controllers = api.controllers
+
+        then:
+        controllers*.simpleName == ["Controller0", "Controller1"]
+        controllers[0].declaredMethods*.name.sort() == ["endpoint0", "endpoint2", "endpoint4"]
+        controllers[1].declaredMethods*.name.sort() == ["endpoint1", "endpoint3"]
+        api.getReturnTypes(new TypeResolver()).size() == 5
+    }
+
+    @Unroll
+    def "Models are #depth levels deep with generics #generics and cycles #cycles"() {
+        when:
+        api = new SyntheticApiGenerator()
+                .modelDepth(depth)
+                .generics(generics)
+                .cycles(cycles)
+                .generate()
+        def returnType = api.getReturnTypes(new TypeResolver()).first()
+        def root = generics ? returnType.typeParameters.first().erasedType : returnType.erasedType
+
+        then:
+        returnType.erasedType.simpleName == (generics ? "Page" : "Model0Level0")
+        properties(root) == expected as Set
+
+        where:
+        depth | generics | cycles | expected
+        1     | false    | false  | ["id", "name", "tags", "audit"]
+        2     | false    | false  | ["id", "name", "tags", "audit", "child:Model0Level1"]
+        2     | true     | false  | ["id", "name", "tags", "audit", "child:Envelope"]
+        1     | false    | true   | ["id", "name", "tags", "audit", "root:Model0Level0"]
+    }
+
+    def properties(Class<?> model) {
+        model.declaredFields.collect {
+            it.type.name.startsWith(SyntheticApiGenerator.PACKAGE) && it.name != "audit"
+                    ? "${it.name}:${it.type.simpleName}".toString()
+                    : it.name
+        } as Set
+    }
+}
@@ -19,16 +19,16 @@
 package springfox.documentation.schema;
 
 import com.fasterxml.classmate.ResolvedType;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Qualifier("cachedModelDependencies")
@@ -36,16 +36,25 @@ public class CachingModelDependencyProvider implements ModelDependencyProvider {
     private final LoadingCache<ModelContext, Set<ResolvedType>> cache;
     private final ModelDependencyProvider delegate;
 
+    public CachingModelDependencyProvider(ModelDependencyProvider delegate) {
+        this(delegate, new CacheRegistry());
+    }
+
     @Autowired
-    public CachingModelDependencyProvider(@Qualifier("default") final ModelDependencyProvider delegate) {
+    public CachingModelDependencyProvider(@Qualifier("default") final ModelDependencyProvider delegate,
+                                          CacheRegistry caches) {
         this.delegate = delegate;
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .build(new CacheLoader<ModelContext, Set<ResolvedType>>() {
+        cache = caches.build("model-dependencies",
+                new CacheLoader<ModelContext, Set<ResolvedType>>() {
                     public Set<ResolvedType> load(ModelContext key) {
                         return delegate.dependentModels(key);
                     }
+                },
+                new Weigher<ModelContext, Set<ResolvedType>>() {
+                    @Override
+                    public int weigh(ModelContext key, Set<ResolvedType> value) {
+                        return 1 + value.size();
+                    }
                 });
     }
 
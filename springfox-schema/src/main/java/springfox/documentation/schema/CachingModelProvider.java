@@ -19,16 +19,16 @@
 package springfox.documentation.schema;
 
 import com.google.common.base.Optional;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Qualifier("cachedModels")
@@ -37,18 +37,25 @@ public class CachingModelProvider implements ModelProvider {
     private final LoadingCache<ModelContext, Optional<Model>> cache;
     private final ModelProvider delegate;
 
+    public CachingModelProvider(ModelProvider delegate) {
+        this(delegate, new CacheRegistry());
+    }
+
     @Autowired
-    public CachingModelProvider(@Qualifier("default") final ModelProvider delegate) {
+    public CachingModelProvider(@Qualifier("default") final ModelProvider delegate, CacheRegistry caches) {
         this.delegate = delegate;
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .build(
-                        new CacheLoader<ModelContext, Optional<Model>>() {
-                            public Optional<Model> load(ModelContext key) {
-                                return delegate.modelFor(key);
-                            }
-                        });
+        cache = caches.build("models",
+                new CacheLoader<ModelContext, Optional<Model>>() {
+                    public Optional<Model> load(ModelContext key) {
+                        return delegate.modelFor(key);
+                    }
+                },
+                new Weigher<ModelContext, Optional<Model>>() {
+                    @Override
+                    public int weigh(ModelContext key, Optional<Model> value) {
+                        return 1 + (value.isPresent() ? value.get().getProperties().size() : 0);
+                    }
+                });
     }
 
     @Override
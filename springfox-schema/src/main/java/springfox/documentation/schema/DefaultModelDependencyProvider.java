@@ -22,6 +22,9 @@ package springfox.documentation.schema;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
 import com.google.common.base.Predicate;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.FluentIterable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +32,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import springfox.documentation.schema.property.ModelPropertiesProvider;
+import springfox.documentation.spi.schema.AlternateTypeProvider;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 
 import java.util.List;
@@ -36,10 +40,11 @@ import java.util.Set;
 
 import static com.google.common.base.Predicates.not;
 import static com.google.common.collect.FluentIterable.from;
-import static com.google.common.collect.Lists.newArrayList;
 import static springfox.documentation.schema.Collections.collectionElementType;
 import static springfox.documentation.schema.Collections.isContainerType;
 import static springfox.documentation.schema.ResolvedTypes.resolvedTypeSignature;
+import static springfox.documentation.spi.schema.contexts.ModelContext.inputParam;
+import static springfox.documentation.spi.schema.contexts.ModelContext.returnValue;
 
 @Component
 @Qualifier("default")
@@ -49,6 +54,7 @@ public class DefaultModelDependencyProvider implements ModelDependencyProvider {
     private final TypeResolver typeResolver;
     private final ModelPropertiesProvider propertiesProvider;
     private final TypeNameExtractor nameExtractor;
+    private final LoadingCache<AlternateTypeProvider, ModelDependencyGraph> graphs;
 
     @Autowired
     public DefaultModelDependencyProvider(
@@ -59,11 +65,27 @@ public class DefaultModelDependencyProvider implements ModelDependencyProvider {
         this.typeResolver = typeResolver;
         this.propertiesProvider = propertiesProvider;
         this.nameExtractor = nameExtractor;
+        this.graphs = CacheBuilder.newBuilder()
+                .weakKeys()
+                .build(new CacheLoader<AlternateTypeProvider, ModelDependencyGraph>() {
+                    public ModelDependencyGraph load(AlternateTypeProvider key) {
+                        return new ModelDependencyGraph(new ModelDependencyGraph.DependencyReader() {
+                            @Override
+                            public ModelDependencyGraph.Dependencies directDependencies(ModelContext modelContext) {
+                                return DefaultModelDependencyProvider.this.directDependencies(modelContext);
+                            }
+                        });
+                    }
+                });
     }
 
     @Override
     public Set<ResolvedType> dependentModels(ModelContext modelContext) {
-        return from(resolvedDependencies(modelContext))
+        ResolvedType resolvedType = modelContext.resolvedType(typeResolver);
+        Set<ResolvedType> dependencies = graphs.getUnchecked(modelContext.getAlternateTypeProvider())
+                .dependencies(resolvedType, unseen(modelContext, resolvedType), seenBy(modelContext));
+        modelContext.seen(modelContext.alternateFor(resolvedType));
+        return from(dependencies)
                 .filter(ignorableTypes(modelContext))
                 .filter(not(baseTypes(modelContext)))
                 .toSet();
@@ -84,52 +106,64 @@ public class DefaultModelDependencyProvider implements ModelDependencyProvider {
     }
 
     private Predicate<ResolvedType> ignorableTypes(final ModelContext modelContext) {
+        return not(seenBy(modelContext));
+    }
+
+    private Predicate<ResolvedType> seenBy(final ModelContext modelContext) {
         return new Predicate<ResolvedType>() {
             @Override
             public boolean apply(ResolvedType input) {
-                return !modelContext.hasSeenBefore(input);
+                return modelContext.hasSeenBefore(input);
             }
         };
     }
 
+    /**
+     * The dependency graph is shared by all the contexts of a docket, so it is read using a context of the same type
+     * that has not seen any types. The types seen by the given context are applied once the graph is looked up.
+     */
+    private static ModelContext unseen(ModelContext modelContext, ResolvedType resolvedType) {
+        if (modelContext.isReturnType()) {
+            return returnValue(resolvedType, modelContext.getDocumentationType(),
+                    modelContext.getAlternateTypeProvider(), modelContext.getGenericNamingStrategy());
+        }
+        return inputParam(resolvedType, modelContext.getDocumentationType(),
+                modelContext.getAlternateTypeProvider(), modelContext.getGenericNamingStrategy());
+    }
+
 
-    private List<ResolvedType> resolvedDependencies(ModelContext modelContext) {
+    private ModelDependencyGraph.Dependencies directDependencies(ModelContext modelContext) {
+        ModelDependencyGraph.Dependencies dependencies = new ModelDependencyGraph.Dependencies();
         ResolvedType resolvedType = modelContext.alternateFor(modelContext.resolvedType(typeResolver));
         if (isBaseType(ModelContext.fromParent(modelContext, resolvedType))) {
-            LOG.debug("Marking base type {} as seen", resolvedType.getSignature());
-            modelContext.seen(resolvedType);
-            return newArrayList();
+            LOG.debug("Skipping the dependencies of base type {}", resolvedType.getSignature());
+            return dependencies;
         }
-        List<ResolvedType> dependencies = newArrayList(resolvedTypeParameters(modelContext, resolvedType));
-        dependencies.addAll(resolvedPropertiesAndFields(modelContext, resolvedType));
-        return dependencies;
-    }
-
-    private List<? extends ResolvedType> resolvedTypeParameters(ModelContext modelContext, ResolvedType resolvedType) {
-        List<ResolvedType> parameters = newArrayList();
         for (ResolvedType parameter : resolvedType.getTypeParameters()) {
             LOG.debug("Adding type for parameter {}", parameter.getSignature());
-            parameters.add(modelContext.alternateFor(parameter));
-            LOG.debug("Recursively resolving dependencies for parameter {}", parameter.getSignature());
-            parameters.addAll(resolvedDependencies(ModelContext.fromParent(modelContext, parameter)));
+            dependencies.parameters()
+                    .type(modelContext.alternateFor(parameter))
+                    .successor(ModelContext.fromParent(modelContext, parameter));
         }
-        return parameters;
-    }
-
-    private List<ResolvedType> resolvedPropertiesAndFields(ModelContext modelContext, ResolvedType resolvedType) {
-        if (modelContext.hasSeenBefore(resolvedType) || resolvedType.getErasedType().isEnum()) {
-            return newArrayList();
+        if (resolvedType.getErasedType().isEnum()) {
+            return dependencies;
         }
-        modelContext.seen(resolvedType);
-        List<ResolvedType> properties = newArrayList();
+        ModelDependencyGraph.Edges properties = dependencies.properties(resolvedType);
         for (ModelProperty property : nonTrivialProperties(modelContext, resolvedType)) {
             LOG.debug("Adding type {} for parameter {}", property.getType().getSignature(), property.getName());
-            properties.add(property.getType());
-            properties.addAll(maybeFromCollectionElementType(modelContext, property));
-            properties.addAll(maybeFromMapValueType(modelContext, property));
-            properties.addAll(maybeFromRegularType(modelContext, property));
+            properties.type(property.getType());
+            ResolvedType dependentType = property.getType();
+            if (isContainerType(property.getType())) {
+                dependentType = collectionElementType(property.getType());
+                maybeAddType(modelContext, properties, dependentType);
+            } else if (Maps.isMapType(property.getType())) {
+                dependentType = Maps.mapValueType(property.getType());
+                maybeAddType(modelContext, properties, dependentType);
+            }
+            LOG.debug("Adding dependencies of type {}", resolvedTypeSignature(dependentType).or("<null>"));
+            properties.successor(ModelContext.fromParent(modelContext, dependentType));
         }
-        return properties;
+        return dependencies;
     }
 
     private FluentIterable<ModelProperty> nonTrivialProperties(ModelContext modelContext, ResolvedType resolvedType) {
@@ -146,42 +180,13 @@ public class DefaultModelDependencyProvider implements ModelDependencyProvider {
         };
     }
 
-    private List<ResolvedType> maybeFromRegularType(ModelContext modelContext, ModelProperty property) {
-        if (isContainerType(property.getType()) || Maps.isMapType(property.getType())) {
-            return newArrayList();
-        }
-        LOG.debug("Recursively resolving dependencies for type {}", resolvedTypeSignature(property.getType()).or("<null>"));
-        return newArrayList(resolvedDependencies(ModelContext.fromParent(modelContext, property.getType())));
-    }
-
-    private List<ResolvedType> maybeFromCollectionElementType(ModelContext modelContext, ModelProperty property) {
-        List<ResolvedType> dependencies = newArrayList();
-        if (isContainerType(property.getType())) {
-            ResolvedType collectionElementType = collectionElementType(property.getType());
-            String resolvedTypeSignature = resolvedTypeSignature(collectionElementType).or("<null>");
-            if (!isBaseType(ModelContext.fromParent(modelContext, collectionElementType))) {
-                LOG.debug("Adding collectionElement type {}", resolvedTypeSignature);
-                dependencies.add(collectionElementType);
-            }
-            LOG.debug("Recursively resolving dependencies for collectionElement type {}", resolvedTypeSignature);
-            dependencies.addAll(resolvedDependencies(ModelContext.fromParent(modelContext, collectionElementType)));
+    private void maybeAddType(ModelContext modelContext,
+                              ModelDependencyGraph.Edges properties,
+                              ResolvedType elementType) {
+        if (!isBaseType(ModelContext.fromParent(modelContext, elementType))) {
+            LOG.debug("Adding element type {}", resolvedTypeSignature(elementType).or("<null>"));
+            properties.type(elementType);
         }
-        return dependencies;
-    }
-
-    private List<ResolvedType> maybeFromMapValueType(ModelContext modelContext, ModelProperty property) {
-        List<ResolvedType> dependencies = newArrayList();
-        if (Maps.isMapType(property.getType())) {
-            ResolvedType valueType = Maps.mapValueType(property.getType());
-            String resolvedTypeSignature = resolvedTypeSignature(valueType).or("<null>");
-            if (!isBaseType(ModelContext.fromParent(modelContext, valueType))) {
-                LOG.debug("Adding value type {}", resolvedTypeSignature);
-                dependencies.add(valueType);
-            }
-            LOG.debug("Recursively resolving dependencies for value type {}", resolvedTypeSignature);
-            dependencies.addAll(resolvedDependencies(ModelContext.fromParent(modelContext, valueType)));
-        }
-        return dependencies;
     }
 
     private List<ModelProperty> propertiesFor(ModelContext modelContext, ResolvedType resolvedType) {
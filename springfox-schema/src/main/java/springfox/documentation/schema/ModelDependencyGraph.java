@@ -0,0 +1,329 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.google.common.base.Objects;
+import com.google.common.base.Predicate;
+import com.google.common.collect.ImmutableSet;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spi.schema.GenericTypeNamingStrategy;
+import springfox.documentation.spi.schema.contexts.ModelContext;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Iterables.any;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Sets.newLinkedHashSet;
+
+/**
+ * Dependency graph of the model types of a single docket. The direct dependencies of each type are read once from
+ * the structure of the type alone and the transitive closure is memoized per strongly connected component, so shared
+ * and self referencing types are traversed once regardless of the number of paths that lead to them.
+ * <p/>
+ * The types a model context has already seen are applied to the memoized graph on every lookup: the properties of a
+ * seen type are not followed. The closure is only traversed again when the context has seen one of the types whose
+ * properties it contains.
+ * <p/>
+ * Published closures are read without locking, so the model reads of concurrently scanned operations only contend
+ * while a component that has not been seen yet is traversed.
+ */
+class ModelDependencyGraph {
+
+    interface DependencyReader {
+        Dependencies directDependencies(ModelContext modelContext);
+    }
+
+    /**
+     * The direct dependencies of a type. The dependencies of its type parameters are always followed, the
+     * dependencies of its properties only if the type whose properties were read has not been seen.
+     */
+    static class Dependencies {
+        private final Edges parameters = new Edges();
+        private final Edges properties = new Edges();
+        private ResolvedType propertiesHost;
+
+        Edges parameters() {
+            return parameters;
+        }
+
+        Edges properties(ResolvedType propertiesHost) {
+            this.propertiesHost = propertiesHost;
+            return properties;
+        }
+    }
+
+    static class Edges {
+        private final List<ResolvedType> types = newArrayList();
+        private final List<ModelContext> successors = newArrayList();
+
+        Edges type(ResolvedType type) {
+            types.add(type);
+            return this;
+        }
+
+        Edges successor(ModelContext context) {
+            successors.add(context);
+            return this;
+        }
+    }
+
+    private final DependencyReader reader;
+    private final Map<Node, ReadNode> nodes = newConcurrentMap();
+    private final Map<Node, Closure> closures = newConcurrentMap();
+
+    ModelDependencyGraph(DependencyReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @param type         - the type whose dependencies are looked up
+     * @param modelContext - a context of the type that has not seen any types
+     * @param seen         - the types seen by the context the dependencies are looked up for
+     * @return the types the given type depends on, without following the properties of the seen types
+     */
+    Set<ResolvedType> dependencies(ResolvedType type, ModelContext modelContext, Predicate<ResolvedType> seen) {
+        Node node = new Node(type, modelContext);
+        Closure closure = closures.get(node);
+        if (closure == null) {
+            closure = closure(node, modelContext);
+        }
+        if (!any(closure.propertiesHosts, seen)) {
+            return closure.types;
+        }
+        return withoutPropertiesOfSeenTypes(node, seen);
+    }
+
+    private synchronized Closure closure(Node node, ModelContext modelContext) {
+        if (!closures.containsKey(node)) {
+            new Traversal().visit(node, modelContext);
+        }
+        return closures.get(node);
+    }
+
+    private ReadNode read(Node node, ModelContext modelContext) {
+        ReadNode read = nodes.get(node);
+        if (read == null) {
+            Dependencies dependencies = reader.directDependencies(modelContext);
+            read = new ReadNode(dependencies);
+            nodes.put(node, read);
+        }
+        return read;
+    }
+
+    private Set<ResolvedType> withoutPropertiesOfSeenTypes(Node root, Predicate<ResolvedType> seen) {
+        Set<ResolvedType> dependencies = newLinkedHashSet();
+        Set<Node> visited = newHashSet(root);
+        Deque<Node> pending = new ArrayDeque<Node>();
+        pending.add(root);
+        while (!pending.isEmpty()) {
+            ReadNode node = nodes.get(pending.poll());
+            follow(node.parameterTypes, node.parameterSuccessors.keySet(), dependencies, visited, pending);
+            if (node.propertiesHost != null && !seen.apply(node.propertiesHost)) {
+                follow(node.propertyTypes, node.propertySuccessors.keySet(), dependencies, visited, pending);
+            }
+        }
+        return dependencies;
+    }
+
+    private static void follow(List<ResolvedType> types,
+                               Set<Node> successors,
+                               Set<ResolvedType> dependencies,
+                               Set<Node> visited,
+                               Deque<Node> pending) {
+        dependencies.addAll(types);
+        for (Node each : successors) {
+            if (visited.add(each)) {
+                pending.add(each);
+            }
+        }
+    }
+
+    /**
+     * Tarjan's strongly connected components over the nodes reachable from the starting node; a component's closure
+     * is published once all of the components it depends on are complete.
+     */
+    private class Traversal {
+        private final Map<Node, Integer> index = newHashMap();
+        private final Map<Node, Integer> lowLink = newHashMap();
+        private final Deque<Node> stack = new ArrayDeque<Node>();
+        private final Set<Node> onStack = newHashSet();
+
+        void visit(Node node, ModelContext modelContext) {
+            index.put(node, index.size());
+            lowLink.put(node, index.get(node));
+            stack.push(node);
+            onStack.add(node);
+            ReadNode read = read(node, modelContext);
+            for (Map.Entry<Node, ModelContext> each : read.successors().entrySet()) {
+                Node successor = each.getKey();
+                if (closures.containsKey(successor)) {
+                    continue;
+                }
+                if (!index.containsKey(successor)) {
+                    visit(successor, each.getValue());
+                    lowLink.put(node, Math.min(lowLink.get(node), lowLink.get(successor)));
+                } else if (onStack.contains(successor)) {
+                    lowLink.put(node, Math.min(lowLink.get(node), index.get(successor)));
+                }
+            }
+            if (lowLink.get(node).equals(index.get(node))) {
+                publish(component(node));
+            }
+        }
+
+        private Set<Node> component(Node root) {
+            Set<Node> component = newLinkedHashSet();
+            Node member;
+            do {
+                member = stack.pop();
+                onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(root));
+            return component;
+        }
+
+        private void publish(Set<Node> component) {
+            Set<ResolvedType> types = newLinkedHashSet();
+            Set<ResolvedType> propertiesHosts = newHashSet();
+            for (Node member : component) {
+                ReadNode read = nodes.get(member);
+                types.addAll(read.parameterTypes);
+                types.addAll(read.propertyTypes);
+                if (read.propertiesHost != null) {
+                    propertiesHosts.add(read.propertiesHost);
+                }
+                for (Node successor : read.successors().keySet()) {
+                    if (!component.contains(successor)) {
+                        types.addAll(closures.get(successor).types);
+                        propertiesHosts.addAll(closures.get(successor).propertiesHosts);
+                    }
+                }
+            }
+            Closure closure = new Closure(ImmutableSet.copyOf(types), ImmutableSet.copyOf(propertiesHosts));
+            for (Node member : component) {
+                nodes.get(member).release();
+                closures.put(member, closure);
+            }
+        }
+    }
+
+    private static class Closure {
+        private final ImmutableSet<ResolvedType> types;
+        private final ImmutableSet<ResolvedType> propertiesHosts;
+
+        Closure(ImmutableSet<ResolvedType> types, ImmutableSet<ResolvedType> propertiesHosts) {
+            this.types = types;
+            this.propertiesHosts = propertiesHosts;
+        }
+    }
+
+    /**
+     * The direct dependencies read for a node. The contexts of the successors are only kept until the closure of the
+     * node is published.
+     */
+    private static class ReadNode {
+        private final List<ResolvedType> parameterTypes;
+        private final Map<Node, ModelContext> parameterSuccessors;
+        private final ResolvedType propertiesHost;
+        private final List<ResolvedType> propertyTypes;
+        private final Map<Node, ModelContext> propertySuccessors;
+
+        ReadNode(Dependencies dependencies) {
+            this.parameterTypes = dependencies.parameters.types;
+            this.parameterSuccessors = successors(dependencies.parameters);
+            this.propertiesHost = dependencies.propertiesHost;
+            this.propertyTypes = dependencies.properties.types;
+            this.propertySuccessors = successors(dependencies.properties);
+        }
+
+        Map<Node, ModelContext> successors() {
+            Map<Node, ModelContext> successors = newLinkedHashMap(parameterSuccessors);
+            for (Map.Entry<Node, ModelContext> each : propertySuccessors.entrySet()) {
+                if (!successors.containsKey(each.getKey())) {
+                    successors.put(each.getKey(), each.getValue());
+                }
+            }
+            return successors;
+        }
+
+        void release() {
+            for (Map.Entry<Node, ModelContext> each : parameterSuccessors.entrySet()) {
+                each.setValue(null);
+            }
+            for (Map.Entry<Node, ModelContext> each : propertySuccessors.entrySet()) {
+                each.setValue(null);
+            }
+        }
+
+        private static Map<Node, ModelContext> successors(Edges edges) {
+            Map<Node, ModelContext> successors = newLinkedHashMap();
+            for (ModelContext each : edges.successors) {
+                Node successor = new Node((ResolvedType) each.getType(), each);
+                if (!successors.containsKey(successor)) {
+                    successors.put(successor, each);
+                }
+            }
+            return successors;
+        }
+    }
+
+    private static class Node {
+        private final ResolvedType type;
+        private final boolean returnType;
+        private final DocumentationType documentationType;
+        private final GenericTypeNamingStrategy namingStrategy;
+
+        Node(ResolvedType type, ModelContext modelContext) {
+            this.type = type;
+            this.returnType = modelContext.isReturnType();
+            this.documentationType = modelContext.getDocumentationType();
+            this.namingStrategy = modelContext.getGenericNamingStrategy();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Node that = (Node) o;
+            return Objects.equal(type, that.type)
+                    && returnType == that.returnType
+                    && Objects.equal(documentationType, that.documentationType)
+                    && Objects.equal(namingStrategy, that.namingStrategy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type, returnType, documentationType, namingStrategy);
+        }
+    }
+}
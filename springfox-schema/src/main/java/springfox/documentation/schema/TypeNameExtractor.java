@@ -24,10 +24,15 @@ import com.fasterxml.classmate.TypeResolver;
 import com.fasterxml.classmate.types.ResolvedArrayType;
 import com.fasterxml.classmate.types.ResolvedObjectType;
 import com.fasterxml.classmate.types.ResolvedPrimitiveType;
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.CacheRegistry;
+import springfox.documentation.schema.plugins.PluginPipelines;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.schema.GenericTypeNamingStrategy;
 import springfox.documentation.spi.schema.TypeNameProviderPlugin;
@@ -44,22 +49,65 @@ import static springfox.documentation.schema.Types.typeNameFor;
 public class TypeNameExtractor {
     private final TypeResolver typeResolver;
     private final PluginRegistry<TypeNameProviderPlugin, DocumentationType> typeNameProviders;
+    private final Cache<TypeNameKey, String> typeNames;
+    private final PluginPipelines<TypeNameProviderPlugin, DocumentationType> typeNamePipelines
+            = new PluginPipelines<TypeNameProviderPlugin, DocumentationType>();
+    private final TypeNameProviderPlugin defaultTypeNameProvider = new DefaultTypeNameProvider();
+
+    public TypeNameExtractor(TypeResolver typeResolver,
+                             PluginRegistry<TypeNameProviderPlugin, DocumentationType> typeNameProviders) {
+        this(typeResolver, typeNameProviders, new CacheRegistry());
+    }
 
     @Autowired
     public TypeNameExtractor(TypeResolver typeResolver,
                              @Qualifier("typeNameProviderPluginRegistry")
-                             PluginRegistry<TypeNameProviderPlugin, DocumentationType> typeNameProviders) {
+                             PluginRegistry<TypeNameProviderPlugin, DocumentationType> typeNameProviders,
+                             CacheRegistry caches) {
 
         this.typeResolver = typeResolver;
         this.typeNameProviders = typeNameProviders;
+        this.typeNames = caches.build("type-names", new Weigher<TypeNameKey, String>() {
+            @Override
+            public int weigh(TypeNameKey key, String value) {
+                return 1;
+            }
+        });
     }
 
     public String typeName(ModelContext context) {
+        String baseTypeName = baseTypeName(context.getType());
+        if (baseTypeName != null) {
+            return baseTypeName;
+        }
         ResolvedType type = asResolved(context.getType());
-        if (isContainerType(type)) {
-            return containerType(type);
+        TypeNameKey key = new TypeNameKey(type, context.getGenericNamingStrategy(), context.getDocumentationType());
+        String typeName = typeNames.getIfPresent(key);
+        if (typeName == null) {
+            typeName = isContainerType(type) ? containerType(type) : innerTypeName(type, context);
+            typeNames.put(key, typeName);
         }
-        return innerTypeName(type, context);
+        return typeName;
+    }
+
+    /**
+     * Names primitives, enums and the other well known base types without resolving the type or consulting the
+     * type name provider plugins.
+     */
+    private static String baseTypeName(Type type) {
+        Class<?> erasedType = null;
+        if (type instanceof Class) {
+            erasedType = (Class<?>) type;
+        } else if (type instanceof ResolvedType && ((ResolvedType) type).getTypeParameters().isEmpty()) {
+            erasedType = ((ResolvedType) type).getErasedType();
+        }
+        if (erasedType == null || erasedType.isArray()) {
+            return null;
+        }
+        if (erasedType.isEnum()) {
+            return "string";
+        }
+        return typeNameFor(erasedType);
     }
 
     private ResolvedType asResolved(Type type) {
@@ -114,8 +162,39 @@ public class TypeNameExtractor {
     }
 
     private String typeName(ModelNameContext context) {
-        TypeNameProviderPlugin selected =
-                typeNameProviders.getPluginFor(context.getDocumentationType(), new DefaultTypeNameProvider());
+        TypeNameProviderPlugin selected = typeNamePipelines.pluginFor(typeNameProviders, context.getDocumentationType(),
+                defaultTypeNameProvider);
         return selected.nameFor(context.getType());
     }
+
+    private static class TypeNameKey {
+        private final ResolvedType type;
+        private final GenericTypeNamingStrategy namingStrategy;
+        private final DocumentationType documentationType;
+
+        TypeNameKey(ResolvedType type, GenericTypeNamingStrategy namingStrategy, DocumentationType documentationType) {
+            this.type = type;
+            this.namingStrategy = namingStrategy;
+            this.documentationType = documentationType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TypeNameKey that = (TypeNameKey) o;
+            return Objects.equal(type, that.type)
+                    && Objects.equal(namingStrategy, that.namingStrategy)
+                    && Objects.equal(documentationType, that.documentationType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type, namingStrategy, documentationType);
+        }
+    }
 }
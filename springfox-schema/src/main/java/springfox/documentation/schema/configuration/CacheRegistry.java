@@ -0,0 +1,217 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.configuration;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheBuilderSpec;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.ForwardingLoadingCache;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import springfox.documentation.spi.service.CacheStatisticsListener;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+
+/**
+ * Builds the caches used while scanning the documentation and publishes their statistics.
+ * <p/>
+ * Each cache is configured with the springfox.documentation.cache.&lt;name&gt;.spec property, a guava cache
+ * specification that defaults to {@value #DEFAULT_SPEC}. A maximumWeight in the specification weighs the entries
+ * by the number of items they hold. Setting springfox.documentation.cache.&lt;name&gt;.enabled to false keeps no
+ * entries, so every lookup is computed again.
+ * <p/>
+ * The caches are shared by all the docket groups. A docket can specify a cache that is not configured by a property,
+ * see {@link #configure(String, Map)}, the first docket to specify a cache wins.
+ */
+@Component
+public class CacheRegistry {
+    public static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=24h";
+    private static final Logger LOG = LoggerFactory.getLogger(CacheRegistry.class);
+
+    private final Environment environment;
+    private final Map<String, ConfigurableCache<?, ?>> caches = newLinkedHashMap();
+    private final Map<String, String> owners = newLinkedHashMap();
+    private final Map<String, String> groupSpecifications = newLinkedHashMap();
+
+    @Autowired(required = false)
+    private List<CacheStatisticsListener> listeners = newArrayList();
+
+    public CacheRegistry() {
+        this(null);
+    }
+
+    @Autowired
+    public CacheRegistry(Environment environment) {
+        this.environment = environment;
+    }
+
+    public <K, V> LoadingCache<K, V> build(String name, CacheLoader<K, V> loader, Weigher<K, V> weigher) {
+        return register(name, new ConfigurableCache<K, V>(name, loader, weigher, spec(name)));
+    }
+
+    public <K, V> Cache<K, V> build(String name, Weigher<K, V> weigher) {
+        return register(name, new ConfigurableCache<K, V>(name, new UnsupportedLoader<K, V>(), weigher, spec(name)));
+    }
+
+    /**
+     * Applies the cache specifications of a docket group to the caches that are not configured by properties. The
+     * entries of a cache whose specification changes are dropped, so the caches should be configured before the
+     * documentation is scanned.
+     *
+     * @param groupName      - the docket group the specifications belong to
+     * @param specifications - guava cache specifications keyed by cache name
+     */
+    public void configure(String groupName, Map<String, String> specifications) {
+        for (Map.Entry<String, String> each : specifications.entrySet()) {
+            String name = each.getKey();
+            if (isConfiguredByProperties(name)) {
+                LOG.info("Cache {} is configured by properties, ignoring the specification of group {}",
+                        name, groupName);
+                continue;
+            }
+            synchronized (caches) {
+                if (owners.containsKey(name)) {
+                    if (!Objects.equal(groupSpecifications.get(name), each.getValue())) {
+                        LOG.warn("Cache {} is configured by group {}, ignoring the specification of group {}",
+                                name, owners.get(name), groupName);
+                    }
+                    continue;
+                }
+                owners.put(name, groupName);
+                groupSpecifications.put(name, each.getValue());
+                if (caches.containsKey(name)) {
+                    caches.get(name).configure(each.getValue());
+                }
+            }
+        }
+    }
+
+    public void publishStatistics() {
+        Map<String, ConfigurableCache<?, ?>> snapshot;
+        synchronized (caches) {
+            snapshot = newLinkedHashMap(caches);
+        }
+        for (Map.Entry<String, ConfigurableCache<?, ?>> each : snapshot.entrySet()) {
+            LOG.debug("Cache {}: {}", each.getKey(), each.getValue().stats());
+            for (CacheStatisticsListener listener : listeners) {
+                listener.onStatistics(each.getKey(), each.getValue().stats());
+            }
+        }
+    }
+
+    private <C extends ConfigurableCache<?, ?>> C register(String name, C cache) {
+        synchronized (caches) {
+            caches.put(name, cache);
+        }
+        return cache;
+    }
+
+    private boolean isConfiguredByProperties(String name) {
+        return environment != null
+                && (environment.containsProperty(prefix(name) + ".spec")
+                || environment.containsProperty(prefix(name) + ".enabled"));
+    }
+
+    private String spec(String name) {
+        synchronized (caches) {
+            if (groupSpecifications.containsKey(name)) {
+                return groupSpecifications.get(name);
+            }
+        }
+        if (environment == null) {
+            return DEFAULT_SPEC;
+        }
+        if (!environment.getProperty(prefix(name) + ".enabled", Boolean.class, true)) {
+            return "maximumSize=0";
+        }
+        return environment.getProperty(prefix(name) + ".spec", DEFAULT_SPEC);
+    }
+
+    private static String prefix(String name) {
+        return String.format("springfox.documentation.cache.%s", name);
+    }
+
+    /**
+     * @param spec - a guava cache specification
+     * @return true if the specification bounds the cache by weight, in which case the entries need a weigher
+     */
+    static boolean isWeighed(String spec) {
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(spec)) {
+            String key = Splitter.on('=').trimResults().split(each).iterator().next();
+            if ("maximumWeight".equals(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A cache whose specification can be changed once it is handed out, the entries are dropped when it is.
+     */
+    private static class ConfigurableCache<K, V> extends ForwardingLoadingCache<K, V> {
+        private final String name;
+        private final CacheLoader<K, V> loader;
+        private final Weigher<K, V> weigher;
+        private volatile LoadingCache<K, V> delegate;
+
+        ConfigurableCache(String name, CacheLoader<K, V> loader, Weigher<K, V> weigher, String spec) {
+            this.name = name;
+            this.loader = loader;
+            this.weigher = weigher;
+            configure(spec);
+        }
+
+        @SuppressWarnings("unchecked")
+        void configure(String spec) {
+            LOG.debug("Caching {} using {}", name, spec);
+            CacheBuilder<K, V> builder = (CacheBuilder<K, V>) (CacheBuilder<?, ?>) CacheBuilder
+                    .from(CacheBuilderSpec.parse(spec))
+                    .recordStats();
+            if (isWeighed(spec)) {
+                builder = builder.weigher(weigher);
+            }
+            this.delegate = builder.build(loader);
+        }
+
+        @Override
+        protected LoadingCache<K, V> delegate() {
+            return delegate;
+        }
+    }
+
+    private static class UnsupportedLoader<K, V> extends CacheLoader<K, V> {
+        @Override
+        public V load(K key) {
+            throw new UnsupportedOperationException("Entries are only computed by the callers of the cache");
+        }
+    }
+}
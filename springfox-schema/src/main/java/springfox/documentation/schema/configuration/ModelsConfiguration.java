@@ -24,6 +24,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
+import springfox.documentation.schema.property.MemberResolutionCache;
 import springfox.documentation.spi.schema.ModelBuilderPlugin;
 import springfox.documentation.spi.schema.ModelPropertyBuilderPlugin;
 import springfox.documentation.spi.schema.TypeNameProviderPlugin;
@@ -42,4 +43,9 @@ public class ModelsConfiguration {
     public TypeResolver typeResolver() {
         return new TypeResolver();
     }
+
+    @Bean
+    public MemberResolutionCache memberResolutionCache(TypeResolver typeResolver, CacheRegistry caches) {
+        return new MemberResolutionCache(typeResolver, caches);
+    }
 }
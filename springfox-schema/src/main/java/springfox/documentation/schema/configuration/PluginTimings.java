@@ -0,0 +1,170 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.configuration;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import springfox.documentation.spi.DocumentationType;
+import springfox.documentation.spi.service.PluginTiming;
+import springfox.documentation.spi.service.PluginTimingListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newConcurrentMap;
+
+/**
+ * Records the time spent in each documentation and schema plugin when the springfox.documentation.plugins.timing
+ * property is true. The timings are logged and published to the {@link PluginTimingListener} beans once the
+ * documentation is scanned. When the property is false nothing is recorded.
+ */
+@Component
+public class PluginTimings {
+    private static final Logger LOG = LoggerFactory.getLogger(PluginTimings.class);
+
+    private final ConcurrentMap<TimingKey, Timing> timings = newConcurrentMap();
+
+    @Autowired(required = false)
+    private List<PluginTimingListener> listeners = newArrayList();
+
+    @Value("${springfox.documentation.plugins.timing:false}")
+    private boolean enabled;
+
+    /**
+     * @return the time an invocation of a plugin starts at, to be passed to {@link #record}
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    public void record(Object plugin, DocumentationType documentationType, long start) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        TimingKey key = new TimingKey(plugin.getClass(), documentationType);
+        Timing timing = timings.get(key);
+        if (timing == null) {
+            timing = new Timing();
+            Timing existing = timings.putIfAbsent(key, timing);
+            if (existing != null) {
+                timing = existing;
+            }
+        }
+        timing.add(elapsed);
+    }
+
+    /**
+     * @return the timings recorded so far, slowest plugin first
+     */
+    public List<PluginTiming> timings() {
+        List<PluginTiming> report = newArrayList();
+        for (Map.Entry<TimingKey, Timing> each : timings.entrySet()) {
+            report.add(each.getValue().toPluginTiming(each.getKey()));
+        }
+        return byTotalTime().sortedCopy(report);
+    }
+
+    public void publish() {
+        if (!enabled) {
+            return;
+        }
+        List<PluginTiming> report = timings();
+        LOG.info("Time spent in {} documentation plugin(s)", report.size());
+        for (PluginTiming each : report) {
+            LOG.info("{} ({}): {} invocation(s), {} ms in total, {} ms at most",
+                    each.getPluginType().getName(),
+                    each.getDocumentationType() == null ? "any" : each.getDocumentationType().getName(),
+                    each.getInvocations(),
+                    each.getTotal(TimeUnit.MILLISECONDS),
+                    each.getMaximum(TimeUnit.MILLISECONDS));
+        }
+        for (PluginTimingListener listener : listeners) {
+            listener.onTimings(report);
+        }
+    }
+
+    private static Ordering<PluginTiming> byTotalTime() {
+        return Ordering.from(new Comparator<PluginTiming>() {
+            @Override
+            public int compare(PluginTiming first, PluginTiming second) {
+                return Longs.compare(second.getTotal(TimeUnit.NANOSECONDS), first.getTotal(TimeUnit.NANOSECONDS));
+            }
+        });
+    }
+
+    private static class Timing {
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maximumNanos = new AtomicLong();
+
+        void add(long elapsed) {
+            invocations.incrementAndGet();
+            totalNanos.addAndGet(elapsed);
+            long maximum = maximumNanos.get();
+            while (elapsed > maximum && !maximumNanos.compareAndSet(maximum, elapsed)) {
+                maximum = maximumNanos.get();
+            }
+        }
+
+        PluginTiming toPluginTiming(TimingKey key) {
+            return new PluginTiming(key.pluginType, key.documentationType, invocations.get(), totalNanos.get(),
+                    maximumNanos.get());
+        }
+    }
+
+    private static class TimingKey {
+        private final Class<?> pluginType;
+        private final DocumentationType documentationType;
+
+        TimingKey(Class<?> pluginType, DocumentationType documentationType) {
+            this.pluginType = pluginType;
+            this.documentationType = documentationType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            TimingKey that = (TimingKey) o;
+            return pluginType.equals(that.pluginType) && Objects.equal(documentationType, that.documentationType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(pluginType, documentationType);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.plugins;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import org.springframework.plugin.core.Plugin;
+import org.springframework.plugin.core.PluginRegistry;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The plugins of a registry that support a delimiter, e.g. a documentation type, resolved once per delimiter into an
+ * immutable list so that applying them does not filter the registry again. Delimiters are held weakly and compared by
+ * identity. Shared by the schema and the documentation plugin managers.
+ *
+ * @param <P> - the plugin type
+ * @param <S> - the delimiter type
+ */
+public class PluginPipelines<P extends Plugin<S>, S> {
+    private final ConcurrentMap<S, List<P>> pipelines = new MapMaker().weakKeys().makeMap();
+
+    public List<P> pluginsFor(PluginRegistry<P, S> registry, S delimiter) {
+        if (delimiter == null) {
+            return registry.getPluginsFor(delimiter);
+        }
+        List<P> pipeline = pipelines.get(delimiter);
+        if (pipeline == null) {
+            pipeline = ImmutableList.copyOf(registry.getPluginsFor(delimiter));
+            List<P> existing = pipelines.putIfAbsent(delimiter, pipeline);
+            if (existing != null) {
+                pipeline = existing;
+            }
+        }
+        return pipeline;
+    }
+
+    public P pluginFor(PluginRegistry<P, S> registry, S delimiter, P defaultPlugin) {
+        List<P> pipeline = pluginsFor(registry, delimiter);
+        return pipeline.isEmpty() ? defaultPlugin : pipeline.get(0);
+    }
+}
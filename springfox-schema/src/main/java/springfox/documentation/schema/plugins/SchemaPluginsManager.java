@@ -25,37 +25,60 @@ import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Component;
 import springfox.documentation.schema.Model;
 import springfox.documentation.schema.ModelProperty;
+import springfox.documentation.schema.configuration.PluginTimings;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.schema.ModelBuilderPlugin;
 import springfox.documentation.spi.schema.ModelPropertyBuilderPlugin;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 import springfox.documentation.spi.schema.contexts.ModelPropertyContext;
 
+import java.util.List;
+
 @Component
 public class SchemaPluginsManager {
     private final PluginRegistry<ModelPropertyBuilderPlugin, DocumentationType> propertyEnrichers;
     private final PluginRegistry<ModelBuilderPlugin, DocumentationType> modelEnrichers;
+    private final PluginTimings timings;
+    private final PluginPipelines<ModelPropertyBuilderPlugin, DocumentationType> propertyPipelines
+            = new PluginPipelines<ModelPropertyBuilderPlugin, DocumentationType>();
+    private final PluginPipelines<ModelBuilderPlugin, DocumentationType> modelPipelines
+            = new PluginPipelines<ModelBuilderPlugin, DocumentationType>();
+
+    public SchemaPluginsManager(
+            PluginRegistry<ModelPropertyBuilderPlugin, DocumentationType> propertyEnrichers,
+            PluginRegistry<ModelBuilderPlugin, DocumentationType> modelEnrichers) {
+        this(propertyEnrichers, modelEnrichers, new PluginTimings());
+    }
 
     @Autowired
     public SchemaPluginsManager(
             @Qualifier("modelPropertyBuilderPluginRegistry")
             PluginRegistry<ModelPropertyBuilderPlugin, DocumentationType> propertyEnrichers,
             @Qualifier("modelBuilderPluginRegistry")
-            PluginRegistry<ModelBuilderPlugin, DocumentationType> modelEnrichers) {
+            PluginRegistry<ModelBuilderPlugin, DocumentationType> modelEnrichers,
+            PluginTimings timings) {
         this.propertyEnrichers = propertyEnrichers;
         this.modelEnrichers = modelEnrichers;
+        this.timings = timings;
     }
 
     public ModelProperty property(ModelPropertyContext context) {
-        for (ModelPropertyBuilderPlugin enricher : propertyEnrichers.getPluginsFor(context.getDocumentationType())) {
-            enricher.apply(context);
+        List<ModelPropertyBuilderPlugin> enrichers
+                = propertyPipelines.pluginsFor(propertyEnrichers, context.getDocumentationType());
+        for (int i = 0; i < enrichers.size(); i++) {
+            long start = timings.start();
+            enrichers.get(i).apply(context);
+            timings.record(enrichers.get(i), context.getDocumentationType(), start);
         }
         return context.getBuilder().build();
     }
 
     public Model model(ModelContext context) {
-        for (ModelBuilderPlugin enricher : modelEnrichers.getPluginsFor(context.getDocumentationType())) {
-            enricher.apply(context);
+        List<ModelBuilderPlugin> enrichers = modelPipelines.pluginsFor(modelEnrichers, context.getDocumentationType());
+        for (int i = 0; i < enrichers.size(); i++) {
+            long start = timings.start();
+            enrichers.get(i).apply(context);
+            timings.record(enrichers.get(i), context.getDocumentationType(), start);
         }
         return context.getBuilder().build();
     }
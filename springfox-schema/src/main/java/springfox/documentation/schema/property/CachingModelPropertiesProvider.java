@@ -20,18 +20,18 @@ package springfox.documentation.schema.property;
 
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import springfox.documentation.schema.ModelProperty;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.schema.configuration.ObjectMapperConfigured;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Qualifier("cachedModelProperties")
@@ -39,19 +39,27 @@ public class CachingModelPropertiesProvider implements ModelPropertiesProvider {
 
     private final LoadingCache<ModelContext, List<ModelProperty>> cache;
 
+    public CachingModelPropertiesProvider(TypeResolver resolver, ModelPropertiesProvider delegate) {
+        this(resolver, delegate, new CacheRegistry());
+    }
+
     @Autowired
     public CachingModelPropertiesProvider(
             final TypeResolver resolver,
-            @Qualifier("optimized") final ModelPropertiesProvider delegate) {
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .build(
-                        new CacheLoader<ModelContext, List<ModelProperty>>() {
-                            public List<ModelProperty> load(ModelContext key) {
-                                return delegate.propertiesFor(key.resolvedType(resolver), key);
-                            }
-                        });
+            @Qualifier("optimized") final ModelPropertiesProvider delegate,
+            CacheRegistry caches) {
+        cache = caches.build("model-properties",
+                new CacheLoader<ModelContext, List<ModelProperty>>() {
+                    public List<ModelProperty> load(ModelContext key) {
+                        return delegate.propertiesFor(key.resolvedType(resolver), key);
+                    }
+                },
+                new Weigher<ModelContext, List<ModelProperty>>() {
+                    @Override
+                    public int weigh(ModelContext key, List<ModelProperty> value) {
+                        return 1 + value.size();
+                    }
+                });
     }
 
     @Override
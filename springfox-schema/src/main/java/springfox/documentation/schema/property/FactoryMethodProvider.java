@@ -19,14 +19,12 @@
 package springfox.documentation.schema.property;
 
 
-import com.fasterxml.classmate.MemberResolver;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
 import com.fasterxml.classmate.members.ResolvedConstructor;
 import com.fasterxml.classmate.members.ResolvedMethod;
 import com.fasterxml.classmate.members.ResolvedParameterizedMember;
-import com.fasterxml.jackson.databind.introspect.AnnotatedParameter;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,11 +38,15 @@ import static com.google.common.collect.Lists.newArrayList;
 
 @Component
 public class FactoryMethodProvider {
-    private MemberResolver memberResolver;
+    private final MemberResolutionCache memberResolutionCache;
 
-    @Autowired
     public FactoryMethodProvider(TypeResolver resolver) {
-        memberResolver = new MemberResolver(resolver);
+        this(new MemberResolutionCache(resolver));
+    }
+
+    @Autowired
+    public FactoryMethodProvider(MemberResolutionCache memberResolutionCache) {
+        this.memberResolutionCache = memberResolutionCache;
     }
 
     public Optional<? extends ResolvedParameterizedMember> in(ResolvedType resolvedType,
@@ -52,22 +54,13 @@ public class FactoryMethodProvider {
         return from(concat(constructors(resolvedType), delegatedFactoryMethods(resolvedType))).firstMatch(predicate);
     }
 
-    static Predicate<ResolvedParameterizedMember> factoryMethodOf(final AnnotatedParameter parameter) {
-        return new Predicate<ResolvedParameterizedMember>() {
-            @Override
-            public boolean apply(ResolvedParameterizedMember input) {
-                return input.getRawMember().equals(parameter.getOwner().getMember());
-            }
-        };
-    }
-
     public Collection<ResolvedConstructor> constructors(ResolvedType resolvedType) {
-        ResolvedTypeWithMembers typeWithMembers = memberResolver.resolve(resolvedType, null, null);
+        ResolvedTypeWithMembers typeWithMembers = memberResolutionCache.resolve(resolvedType);
         return newArrayList(typeWithMembers.getConstructors());
     }
 
     public Collection<ResolvedMethod> delegatedFactoryMethods(ResolvedType resolvedType) {
-        ResolvedTypeWithMembers typeWithMembers = memberResolver.resolve(resolvedType, null, null);
+        ResolvedTypeWithMembers typeWithMembers = memberResolutionCache.resolve(resolvedType);
         return newArrayList(typeWithMembers.getStaticMethods());
     }
 }
@@ -0,0 +1,78 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.property;
+
+import com.fasterxml.classmate.MemberResolver;
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.TypeResolver;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import springfox.documentation.schema.configuration.CacheRegistry;
+
+/**
+ * Bounded cache of the members resolved for a type, shared by the accessor, field, factory method and handler
+ * method lookups so that each model and controller type is only resolved once per scan. The cache is configured as
+ * the member-resolution cache of the {@link CacheRegistry}.
+ */
+public class MemberResolutionCache {
+    private final LoadingCache<ResolvedType, ResolvedTypeWithMembers> cache;
+
+    public MemberResolutionCache(TypeResolver typeResolver) {
+        this(typeResolver, new CacheRegistry());
+    }
+
+    public MemberResolutionCache(TypeResolver typeResolver, CacheRegistry caches) {
+        final MemberResolver memberResolver = new MemberResolver(typeResolver);
+        memberResolver.setIncludeLangObject(false);
+        cache = caches.build("member-resolution",
+                new CacheLoader<ResolvedType, ResolvedTypeWithMembers>() {
+                    public ResolvedTypeWithMembers load(ResolvedType key) {
+                        ResolvedTypeWithMembers members = memberResolver.resolve(key, null, null);
+                        //Members are resolved lazily; resolve them before the entry is shared across threads
+                        members.getMemberFields();
+                        members.getMemberMethods();
+                        members.getStaticMethods();
+                        members.getConstructors();
+                        return members;
+                    }
+                },
+                new Weigher<ResolvedType, ResolvedTypeWithMembers>() {
+                    @Override
+                    public int weigh(ResolvedType key, ResolvedTypeWithMembers value) {
+                        return value.getMemberFields().length + value.getMemberMethods().length + 1;
+                    }
+                });
+    }
+
+    public ResolvedTypeWithMembers resolve(ResolvedType resolvedType) {
+        return cache.getUnchecked(resolvedType);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -32,8 +32,14 @@ import com.fasterxml.jackson.databind.introspect.*;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +48,7 @@ import org.springframework.stereotype.Component;
 import springfox.documentation.builders.ModelPropertyBuilder;
 import springfox.documentation.schema.ModelProperty;
 import springfox.documentation.schema.TypeNameExtractor;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.schema.configuration.ObjectMapperConfigured;
 import springfox.documentation.schema.plugins.SchemaPluginsManager;
 import springfox.documentation.schema.property.bean.AccessorsProvider;
@@ -59,12 +66,10 @@ import java.util.Map;
 
 import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Iterables.any;
-import static com.google.common.collect.Iterables.tryFind;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.uniqueIndex;
 import static springfox.documentation.schema.ResolvedTypes.modelRefFactory;
 import static springfox.documentation.schema.property.BeanPropertyDefinitions.name;
-import static springfox.documentation.schema.property.FactoryMethodProvider.factoryMethodOf;
 import static springfox.documentation.schema.property.bean.BeanModelProperty.paramOrReturnType;
 import static springfox.documentation.spi.schema.contexts.ModelContext.fromParent;
 
@@ -79,9 +84,10 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
     private final BeanPropertyNamingStrategy namingStrategy;
     private final SchemaPluginsManager schemaPluginsManager;
     private final TypeNameExtractor typeNameExtractor;
-    private ObjectMapper objectMapper;
+    private final LoadingCache<PropertiesKey, ImmutableMap<String, BeanPropertyDefinition>> propertyDefinitions;
+    private final LoadingCache<ResolvedType, ResolvedTypeMembers> members;
+    private volatile ObjectMapper objectMapper;
 
-    @Autowired
     public OptimizedModelPropertiesProvider(
             AccessorsProvider accessors,
             FieldProvider fields,
@@ -90,6 +96,20 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
             BeanPropertyNamingStrategy namingStrategy,
             SchemaPluginsManager schemaPluginsManager,
             TypeNameExtractor typeNameExtractor) {
+        this(accessors, fields, factoryMethods, typeResolver, namingStrategy, schemaPluginsManager, typeNameExtractor,
+                new CacheRegistry());
+    }
+
+    @Autowired
+    public OptimizedModelPropertiesProvider(
+            AccessorsProvider accessors,
+            FieldProvider fields,
+            FactoryMethodProvider factoryMethods,
+            TypeResolver typeResolver,
+            BeanPropertyNamingStrategy namingStrategy,
+            SchemaPluginsManager schemaPluginsManager,
+            TypeNameExtractor typeNameExtractor,
+            CacheRegistry caches) {
 
         this.accessors = accessors;
         this.fields = fields;
@@ -98,20 +118,50 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
         this.namingStrategy = namingStrategy;
         this.schemaPluginsManager = schemaPluginsManager;
         this.typeNameExtractor = typeNameExtractor;
+        this.propertyDefinitions = caches.build("property-definitions",
+                new CacheLoader<PropertiesKey, ImmutableMap<String, BeanPropertyDefinition>>() {
+                    public ImmutableMap<String, BeanPropertyDefinition> load(PropertiesKey key) {
+                        return uniqueIndex(beanDescription(key).findProperties(),
+                                BeanPropertyDefinitions.beanPropertyByInternalName());
+                    }
+                },
+                new Weigher<PropertiesKey, ImmutableMap<String, BeanPropertyDefinition>>() {
+                    @Override
+                    public int weigh(PropertiesKey key, ImmutableMap<String, BeanPropertyDefinition> value) {
+                        return value.size() + 1;
+                    }
+                });
+        this.members = caches.build("type-members",
+                new CacheLoader<ResolvedType, ResolvedTypeMembers>() {
+                    public ResolvedTypeMembers load(ResolvedType key) {
+                        return typeMembers(key);
+                    }
+                },
+                new Weigher<ResolvedType, ResolvedTypeMembers>() {
+                    @Override
+                    public int weigh(ResolvedType key, ResolvedTypeMembers value) {
+                        return value.size() + 1;
+                    }
+                });
     }
 
+    /**
+     * The property definitions are looked up with the object mapper that is current when they are loaded, so they
+     * are dropped whenever another object mapper is configured rather than being keyed, and holding on to, each
+     * object mapper.
+     */
     @Override
     public void onApplicationEvent(ObjectMapperConfigured event) {
         objectMapper = event.getObjectMapper();
+        propertyDefinitions.invalidateAll();
     }
 
 
     @Override
     public List<ModelProperty> propertiesFor(ResolvedType type, ModelContext givenContext) {
         List<ModelProperty> properties = newArrayList();
-        BeanDescription beanDescription = beanDescription(type, givenContext);
-        Map<String, BeanPropertyDefinition> propertyLookup = uniqueIndex(beanDescription.findProperties(),
-                BeanPropertyDefinitions.beanPropertyByInternalName());
+        Map<String, BeanPropertyDefinition> propertyLookup = propertyDefinitions.getUnchecked(
+                new PropertiesKey(type.getErasedType(), givenContext.isReturnType()));
         for (Map.Entry<String, BeanPropertyDefinition> each : propertyLookup.entrySet()) {
             LOG.debug("Reading property {}", each.getKey());
             BeanPropertyDefinition jacksonProperty = each.getValue();
@@ -215,13 +265,8 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
         };
     }
 
-    private Optional<ResolvedField> findField(ResolvedType resolvedType,
-                                              final String fieldName) {
-        return tryFind(fields.in(resolvedType), new Predicate<ResolvedField>() {
-            public boolean apply(ResolvedField input) {
-                return fieldName.equals(input.getName());
-            }
-        });
+    private Optional<ResolvedField> findField(ResolvedType resolvedType, String fieldName) {
+        return members.getUnchecked(resolvedType).field(fieldName);
     }
 
     private ModelProperty fieldModelProperty(ResolvedField childField, BeanPropertyDefinition jacksonProperty,
@@ -301,12 +346,8 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
                 .updateModelRef(modelRefFactory(modelContext, typeNameExtractor));
     }
 
-    private Optional<ResolvedMethod> findAccessorMethod(ResolvedType resolvedType, final AnnotatedMember member) {
-        return tryFind(accessors.in(resolvedType), new Predicate<ResolvedMethod>() {
-            public boolean apply(ResolvedMethod accessorMethod) {
-                return accessorMethod.getRawMember().equals(member.getMember());
-            }
-        });
+    private Optional<ResolvedMethod> findAccessorMethod(ResolvedType resolvedType, AnnotatedMember member) {
+        return members.getUnchecked(resolvedType).accessor(member.getMember());
     }
 
     private List<ModelProperty> fromFactoryMethod(
@@ -315,7 +356,7 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
             final AnnotatedParameter member,
             final ModelContext givenContext) {
 
-        Optional<ModelProperty> property = factoryMethods.in(resolvedType, factoryMethodOf(member))
+        Optional<ModelProperty> property = members.getUnchecked(resolvedType).factoryMethod(member.getOwner().getMember())
                 .transform(new Function<ResolvedParameterizedMember, ModelProperty>() {
                     @Override
                     public ModelProperty apply(ResolvedParameterizedMember input) {
@@ -328,15 +369,52 @@ public class OptimizedModelPropertiesProvider implements ModelPropertiesProvider
         return newArrayList();
     }
 
-    private BeanDescription beanDescription(ResolvedType type, ModelContext context) {
-        if (context.isReturnType()) {
+    private ResolvedTypeMembers typeMembers(ResolvedType type) {
+        return new ResolvedTypeMembers(
+                accessors.in(type),
+                fields.in(type),
+                Iterables.<ResolvedParameterizedMember>concat(
+                        factoryMethods.constructors(type),
+                        factoryMethods.delegatedFactoryMethods(type)));
+    }
+
+    private BeanDescription beanDescription(PropertiesKey key) {
+        if (key.forSerialization) {
             SerializationConfig serializationConfig = objectMapper.getSerializationConfig();
             return serializationConfig.introspect(TypeFactory.defaultInstance()
-                    .constructType(type.getErasedType()));
+                    .constructType(key.type));
         } else {
             DeserializationConfig serializationConfig = objectMapper.getDeserializationConfig();
             return serializationConfig.introspect(TypeFactory.defaultInstance()
-                    .constructType(type.getErasedType()));
+                    .constructType(key.type));
+        }
+    }
+
+    private static class PropertiesKey {
+        private final Class<?> type;
+        private final boolean forSerialization;
+
+        PropertiesKey(Class<?> type, boolean forSerialization) {
+            this.type = type;
+            this.forSerialization = forSerialization;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PropertiesKey that = (PropertiesKey) o;
+            return type == that.type
+                    && forSerialization == that.forSerialization;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(type, forSerialization);
         }
     }
 }
@@ -0,0 +1,76 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.property;
+
+import com.fasterxml.classmate.members.ResolvedField;
+import com.fasterxml.classmate.members.ResolvedMethod;
+import com.fasterxml.classmate.members.ResolvedParameterizedMember;
+import com.google.common.base.Optional;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newHashMap;
+
+/**
+ * Index of the accessors, fields and factory methods of a resolved type by their raw member or name, so that the
+ * members backing each jackson property can be looked up without scanning the type's members.
+ */
+class ResolvedTypeMembers {
+    private final Map<Member, ResolvedMethod> accessors = newHashMap();
+    private final Map<String, ResolvedField> fields = newHashMap();
+    private final Map<Member, ResolvedParameterizedMember> factoryMethods = newHashMap();
+
+    ResolvedTypeMembers(Iterable<ResolvedMethod> accessors,
+                        Iterable<ResolvedField> fields,
+                        Iterable<? extends ResolvedParameterizedMember> factoryMethods) {
+        for (ResolvedMethod each : accessors) {
+            putIfAbsent(this.accessors, each.getRawMember(), each);
+        }
+        for (ResolvedField each : fields) {
+            putIfAbsent(this.fields, each.getName(), each);
+        }
+        for (ResolvedParameterizedMember each : factoryMethods) {
+            putIfAbsent(this.factoryMethods, each.getRawMember(), each);
+        }
+    }
+
+    public Optional<ResolvedMethod> accessor(Member rawMember) {
+        return Optional.fromNullable(accessors.get(rawMember));
+    }
+
+    public Optional<ResolvedField> field(String name) {
+        return Optional.fromNullable(fields.get(name));
+    }
+
+    public Optional<ResolvedParameterizedMember> factoryMethod(Member rawMember) {
+        return Optional.fromNullable(factoryMethods.get(rawMember));
+    }
+
+    public int size() {
+        return accessors.size() + fields.size() + factoryMethods.size();
+    }
+
+    private static <K, V> void putIfAbsent(Map<K, V> index, K key, V value) {
+        if (!index.containsKey(key)) {
+            index.put(key, value);
+        }
+    }
+}
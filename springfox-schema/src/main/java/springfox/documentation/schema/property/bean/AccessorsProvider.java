@@ -19,7 +19,6 @@
 
 package springfox.documentation.schema.property.bean;
 
-import com.fasterxml.classmate.MemberResolver;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
@@ -29,6 +28,7 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.property.MemberResolutionCache;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static springfox.documentation.schema.property.bean.Accessors.maybeAGetter;
@@ -37,11 +37,15 @@ import static springfox.documentation.schema.property.bean.Accessors.maybeASette
 @Component
 public class AccessorsProvider {
 
-    private TypeResolver typeResolver;
+    private final MemberResolutionCache memberResolutionCache;
 
-    @Autowired
     public AccessorsProvider(TypeResolver typeResolver) {
-        this.typeResolver = typeResolver;
+        this(new MemberResolutionCache(typeResolver));
+    }
+
+    @Autowired
+    public AccessorsProvider(MemberResolutionCache memberResolutionCache) {
+        this.memberResolutionCache = memberResolutionCache;
     }
 
     private Predicate<ResolvedMethod> onlyGettersAndSetters() {
@@ -54,12 +58,10 @@ public class AccessorsProvider {
     }
 
     public com.google.common.collect.ImmutableList<ResolvedMethod> in(ResolvedType resolvedType) {
-        MemberResolver resolver = new MemberResolver(typeResolver);
-        resolver.setIncludeLangObject(false);
         if (resolvedType.getErasedType() == Object.class) {
             return ImmutableList.of();
         }
-        ResolvedTypeWithMembers typeWithMembers = resolver.resolve(resolvedType, null, null);
+        ResolvedTypeWithMembers typeWithMembers = memberResolutionCache.resolve(resolvedType);
         return FluentIterable
                 .from(newArrayList(typeWithMembers.getMemberMethods()))
                 .filter(onlyGettersAndSetters()).toList();
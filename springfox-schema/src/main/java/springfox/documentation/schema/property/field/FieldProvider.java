@@ -19,31 +19,34 @@
 
 package springfox.documentation.schema.property.field;
 
-import com.fasterxml.classmate.MemberResolver;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
 import com.fasterxml.classmate.members.ResolvedField;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.property.MemberResolutionCache;
 
 import static com.google.common.collect.Lists.newArrayList;
 
 @Component
 public class FieldProvider {
-    private final TypeResolver typeResolver;
+    private final MemberResolutionCache memberResolutionCache;
 
-    @Autowired
     public FieldProvider(TypeResolver typeResolver) {
-        this.typeResolver = typeResolver;
+        this(new MemberResolutionCache(typeResolver));
+    }
+
+    @Autowired
+    public FieldProvider(MemberResolutionCache memberResolutionCache) {
+        this.memberResolutionCache = memberResolutionCache;
     }
 
     public Iterable<ResolvedField> in(ResolvedType resolvedType) {
-        MemberResolver memberResolver = new MemberResolver(typeResolver);
         if (resolvedType.getErasedType() == Object.class) {
             return newArrayList();
         }
-        ResolvedTypeWithMembers resolvedMemberWithMembers = memberResolver.resolve(resolvedType, null, null);
+        ResolvedTypeWithMembers resolvedMemberWithMembers = memberResolutionCache.resolve(resolvedType);
         return newArrayList(resolvedMemberWithMembers.getMemberFields());
     }
 }
@@ -0,0 +1,175 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema
+
+import com.fasterxml.classmate.ResolvedType
+import com.fasterxml.classmate.TypeResolver
+import com.google.common.base.Predicates
+import spock.lang.Specification
+import spock.lang.Timeout
+import springfox.documentation.spi.schema.AlternateTypeProvider
+import springfox.documentation.spi.schema.contexts.ModelContext
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+import static springfox.documentation.spi.DocumentationType.SWAGGER_2
+import static springfox.documentation.spi.schema.contexts.ModelContext.fromParent
+import static springfox.documentation.spi.schema.contexts.ModelContext.inputParam
+
+class ModelDependencyGraphSpec extends Specification {
+    def resolver = new TypeResolver()
+    def nothingSeen = Predicates.<ResolvedType> alwaysFalse()
+
+    def "Shared and cyclic dependencies are read once and closed over"() {
+        given:
+        def edges = [(String): [Integer, Long], (Integer): [Double], (Long): [Double], (Double): [String]]
+        def reads = []
+        def sut = new ModelDependencyGraph(new ModelDependencyGraph.DependencyReader() {
+            @Override
+            ModelDependencyGraph.Dependencies directDependencies(ModelContext context) {
+                def type = context.resolvedType(resolver)
+                reads << type.erasedType.simpleName
+                def dependencies = new ModelDependencyGraph.Dependencies()
+                edges[type.erasedType].each {
+                    def successor = resolver.resolve(it)
+                    dependencies.properties(type).type(successor).successor(fromParent(context, successor))
+                }
+                dependencies
+            }
+        })
+        def root = inputParam(String, SWAGGER_2, new AlternateTypeProvider([]), new DefaultGenericTypeNamingStrategy())
+
+        when:
+        def fromRoot = sut.dependencies(resolver.resolve(String), root, nothingSeen)
+        def fromLeaf = sut.dependencies(resolver.resolve(Double), fromParent(root, resolver.resolve(Double)), nothingSeen)
+
+        then:
+        reads.sort() == ["Double", "Integer", "Long", "String"]
+        fromRoot.collect { it.erasedType.simpleName }.sort() == ["Double", "Integer", "Long", "String"]
+        fromLeaf.is(fromRoot)
+    }
+
+    def "Closures of acyclic dependencies only contain the reachable types"() {
+        given:
+        def edges = [(String): [Integer], (Integer): [Double], (Long): [Double]]
+        def sut = new ModelDependencyGraph(new ModelDependencyGraph.DependencyReader() {
+            @Override
+            ModelDependencyGraph.Dependencies directDependencies(ModelContext context) {
+                def dependencies = new ModelDependencyGraph.Dependencies()
+                def type = context.resolvedType(resolver)
+                edges[type.erasedType].each {
+                    def successor = resolver.resolve(it)
+                    dependencies.properties(type).type(successor).successor(fromParent(context, successor))
+                }
+                dependencies
+            }
+        })
+        def root = inputParam(String, SWAGGER_2, new AlternateTypeProvider([]), new DefaultGenericTypeNamingStrategy())
+
+        expect:
+        sut.dependencies(resolver.resolve(String), root, nothingSeen).collect { it.erasedType.simpleName } == ["Integer", "Double"]
+        sut.dependencies(resolver.resolve(Integer), fromParent(root, resolver.resolve(Integer)), nothingSeen)
+                .collect { it.erasedType.simpleName } == ["Double"]
+        sut.dependencies(resolver.resolve(Double), fromParent(root, resolver.resolve(Double)), nothingSeen).isEmpty()
+    }
+
+    def "The properties of seen types are not followed, whichever context looked the types up first"() {
+        given:
+        def edges = [(String): [Integer, Long], (Integer): [Double], (Long): [Float]]
+        def reads = 0
+        def sut = new ModelDependencyGraph(new ModelDependencyGraph.DependencyReader() {
+            @Override
+            ModelDependencyGraph.Dependencies directDependencies(ModelContext context) {
+                reads++
+                def dependencies = new ModelDependencyGraph.Dependencies()
+                def type = context.resolvedType(resolver)
+                edges[type.erasedType].each {
+                    def successor = resolver.resolve(it)
+                    dependencies.properties(type).type(successor).successor(fromParent(context, successor))
+                }
+                dependencies
+            }
+        })
+        def root = inputParam(String, SWAGGER_2, new AlternateTypeProvider([]), new DefaultGenericTypeNamingStrategy())
+        def integerSeen = Predicates.equalTo(resolver.resolve(Integer))
+
+        when:
+        def ignoring = sut.dependencies(resolver.resolve(String), root, integerSeen)
+        def all = sut.dependencies(resolver.resolve(String), root, nothingSeen)
+        def ignoringAgain = sut.dependencies(resolver.resolve(String), root, integerSeen)
+
+        then:
+        reads == 5
+        ignoring.collect { it.erasedType.simpleName } == ["Integer", "Long", "Float"]
+        all.collect { it.erasedType.simpleName } as Set == ["Integer", "Long", "Double", "Float"] as Set
+        ignoringAgain == ignoring
+    }
+
+    @Timeout(10)
+    def "Published closures are looked up while another component is being read"() {
+        given:
+        def edges = [(String): [Integer], (Integer): [Double], (Long): [Float]]
+        def reads = new ConcurrentHashMap<Class, AtomicInteger>()
+        def readingLong = new CountDownLatch(1)
+        def lookedUp = new CountDownLatch(1)
+        def sut = new ModelDependencyGraph(new ModelDependencyGraph.DependencyReader() {
+            @Override
+            ModelDependencyGraph.Dependencies directDependencies(ModelContext context) {
+                def type = context.resolvedType(resolver)
+                reads.putIfAbsent(type.erasedType, new AtomicInteger())
+                reads[type.erasedType].incrementAndGet()
+                if (type.erasedType == Long) {
+                    readingLong.countDown()
+                    lookedUp.await()
+                }
+                def dependencies = new ModelDependencyGraph.Dependencies()
+                edges[type.erasedType].each {
+                    def successor = resolver.resolve(it)
+                    dependencies.properties(type).type(successor).successor(fromParent(context, successor))
+                }
+                dependencies
+            }
+        })
+        def root = inputParam(String, SWAGGER_2, new AlternateTypeProvider([]), new DefaultGenericTypeNamingStrategy())
+        def fromString = sut.dependencies(resolver.resolve(String), root, nothingSeen)
+        def executor = Executors.newSingleThreadExecutor()
+
+        when:
+        def fromLong = executor.submit({
+            sut.dependencies(resolver.resolve(Long), fromParent(root, resolver.resolve(Long)), nothingSeen)
+        } as Callable)
+        readingLong.await()
+        def fromStringAgain = sut.dependencies(resolver.resolve(String), root, nothingSeen)
+        lookedUp.countDown()
+
+        then:
+        fromStringAgain.is(fromString)
+        fromLong.get().collect { it.erasedType.simpleName } == ["Float"]
+        reads.collectEntries { key, value -> [(key.simpleName): value.get()] } ==
+                [String: 1, Integer: 1, Double: 1, Long: 1, Float: 1]
+
+        cleanup:
+        executor.shutdown()
+    }
+}
@@ -27,6 +27,7 @@ import springfox.documentation.schema.mixins.ModelProviderSupport
 import springfox.documentation.schema.mixins.TypesForTestingSupport
 
 import static springfox.documentation.spi.DocumentationType.SWAGGER_12
+import static springfox.documentation.spi.schema.contexts.ModelContext.fromParent
 import static springfox.documentation.spi.schema.contexts.ModelContext.inputParam
 
 @Mixin([TypesForTestingSupport, ModelProviderSupport, AlternateTypesSupport])
@@ -74,4 +75,31 @@ class ModelProviderSpec extends Specification {
         genericCollectionWithEnum()    | ["Collection«string»"]
         recursiveType()                | ["SimpleType"]
     }
+
+    def "properties of the same type under different parents are expanded into identical models"() {
+        given:
+        ModelProvider provider = defaultModelProvider()
+        def root = inputParam(TypeWithSiblingProperties, SWAGGER_12, alternateTypeProvider(), namingStrategy)
+        def resolver = new TypeResolver()
+
+        when:
+        def fromRoot = provider.dependencies(root)
+        def firstBranch = provider.dependencies(fromParent(root, resolver.resolve(ComplexType)))
+        def secondBranch = provider.dependencies(fromParent(root, resolver.resolve(InheritedComplexType)))
+        def second = provider.modelFor(fromParent(root, resolver.resolve(InheritedComplexType))).get()
+        def standalone = provider.dependencies(inputParam(InheritedComplexType, SWAGGER_12, alternateTypeProvider(),
+                namingStrategy))
+        def standaloneSecond = provider.modelFor(inputParam(InheritedComplexType, SWAGGER_12, alternateTypeProvider(),
+                namingStrategy)).get()
+
+        then:
+        fromRoot.keySet() == ["Category", "ComplexType", "InheritedComplexType"] as Set
+        firstBranch.keySet() == ["Category"] as Set
+        secondBranch.keySet() == standalone.keySet()
+        secondBranch.Category.properties.keySet() == standalone.Category.properties.keySet()
+        second.properties.keySet() == standaloneSecond.properties.keySet()
+        second.properties.category.modelRef.type == "Category"
+        fromRoot.ComplexType.properties.category.modelRef.type == "Category"
+        fromRoot.InheritedComplexType.properties.keySet() == standaloneSecond.properties.keySet()
+    }
 }
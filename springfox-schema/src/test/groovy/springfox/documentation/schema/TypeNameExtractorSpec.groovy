@@ -19,9 +19,15 @@
 
 package springfox.documentation.schema
 
+import com.fasterxml.classmate.TypeResolver
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.plugin.core.PluginRegistry
+import springfox.documentation.schema.configuration.CacheRegistry
 import springfox.documentation.schema.mixins.TypesForTestingSupport
+import springfox.documentation.spi.schema.TypeNameProviderPlugin
 
 import static springfox.documentation.spi.DocumentationType.SWAGGER_12
+import static springfox.documentation.spi.DocumentationType.SWAGGER_2
 import static springfox.documentation.spi.schema.contexts.ModelContext.returnValue
 
 @Mixin([TypesForTestingSupport, AlternateTypesSupport])
@@ -65,5 +71,76 @@ class TypeNameExtractorSpec extends SchemaSpecification {
         hashMap(String, SimpleType)    | "Map«string,SimpleType»"
         hashMap(String, String)        | "Map«string,string»"
     }
+    def "Base types are named without consulting the type name providers"() {
+        given:
+        def registry = Mock(PluginRegistry)
+        def sut = new TypeNameExtractor(new TypeResolver(), registry)
+        def context = returnValue(type, SWAGGER_12, alternateTypeProvider(), namingStrategy)
+
+        when:
+        def typeName = sut.typeName(context)
+
+        then:
+        typeName == name
+        0 * registry._
+
+        where:
+        type                                 | name
+        Integer.TYPE                         | "int"
+        Long                                 | "long"
+        new TypeResolver().resolve(String)   | "string"
+        ExampleEnum                          | "string"
+    }
+
+    def "Type names are memoized per type, naming strategy and documentation type"() {
+        given:
+        def provider = Mock(TypeNameProviderPlugin)
+        def registry = Mock(PluginRegistry)
+        registry.getPluginsFor(_) >> [provider]
+        def sut = new TypeNameExtractor(new TypeResolver(), registry)
+
+        when:
+        def first = sut.typeName(returnValue(SimpleType, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+        def second = sut.typeName(returnValue(SimpleType, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+        def other = sut.typeName(returnValue(SimpleType, SWAGGER_2, alternateTypeProvider(), namingStrategy))
+
+        then:
+        first == "SimpleType"
+        second == "SimpleType"
+        other == "SimpleType"
+        2 * provider.nameFor(SimpleType) >> "SimpleType"
+    }
+
+    def "Type names are not memoized when the type-names cache is disabled"() {
+        given:
+        def provider = Mock(TypeNameProviderPlugin)
+        def registry = Mock(PluginRegistry)
+        registry.getPluginsFor(_) >> [provider]
+        def caches = new CacheRegistry(new MockEnvironment()
+                .withProperty("springfox.documentation.cache.type-names.enabled", "false"))
+        def sut = new TypeNameExtractor(new TypeResolver(), registry, caches)
+
+        when:
+        sut.typeName(returnValue(SimpleType, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+        sut.typeName(returnValue(SimpleType, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+
+        then:
+        2 * provider.nameFor(SimpleType) >> "SimpleType"
+    }
+
+    def "The type name provider of a documentation type is resolved once"() {
+        given:
+        def registry = Mock(PluginRegistry)
+        def sut = new TypeNameExtractor(new TypeResolver(), registry)
+
+        when:
+        def simple = sut.typeName(returnValue(SimpleType, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+        def other = sut.typeName(returnValue(ExampleWithEnums, SWAGGER_12, alternateTypeProvider(), namingStrategy))
+
+        then:
+        simple == "SimpleType"
+        other == "ExampleWithEnums"
+        1 * registry.getPluginsFor(SWAGGER_12) >> []
+    }
     //TODO: test cases for parent (withAndWithout)
 }
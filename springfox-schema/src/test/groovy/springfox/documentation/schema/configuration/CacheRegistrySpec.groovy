@@ -0,0 +1,193 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.configuration
+
+import com.google.common.cache.CacheLoader
+import com.google.common.cache.CacheStats
+import com.google.common.cache.Weigher
+import org.springframework.mock.env.MockEnvironment
+import spock.lang.Specification
+import spock.lang.Unroll
+import springfox.documentation.spi.service.CacheStatisticsListener
+
+import java.util.concurrent.Callable
+
+class CacheRegistrySpec extends Specification {
+    def loads = 0
+    def loader = new CacheLoader<String, List<String>>() {
+        @Override
+        List<String> load(String key) throws Exception {
+            loads++
+            [key, key]
+        }
+    }
+    def weigher = new Weigher<String, List<String>>() {
+        @Override
+        int weigh(String key, List<String> value) {
+            value.size()
+        }
+    }
+
+    def "Caches use the default specification and record statistics"() {
+        given:
+        def cache = new CacheRegistry().build("models", loader, weigher)
+
+        when:
+        cache.getUnchecked("a")
+        cache.getUnchecked("a")
+
+        then:
+        loads == 1
+        cache.stats().hitCount() == 1
+        cache.stats().missCount() == 1
+    }
+
+    def "Caches are configured from the environment"() {
+        given:
+        def environment = new MockEnvironment()
+                .withProperty("springfox.documentation.cache.models.spec", "maximumWeight=4")
+        def cache = new CacheRegistry(environment).build("models", loader, weigher)
+
+        when:
+        cache.getUnchecked("a")
+        cache.getUnchecked("b")
+        cache.getUnchecked("c")
+
+        then:
+        cache.size() < 3
+        cache.stats().evictionCount() > 0
+    }
+
+    def "Disabled caches compute every lookup"() {
+        given:
+        def environment = new MockEnvironment()
+                .withProperty("springfox.documentation.cache.models.enabled", "false")
+        def cache = new CacheRegistry(environment).build("models", loader, weigher)
+
+        when:
+        cache.getUnchecked("a")
+        cache.getUnchecked("a")
+
+        then:
+        loads == 2
+    }
+
+    def "Statistics are published to the listeners"() {
+        given:
+        def listener = Mock(CacheStatisticsListener)
+        def sut = new CacheRegistry()
+        sut.listeners = [listener]
+        sut.build("models", loader, weigher).getUnchecked("a")
+        sut.build("operations", loader, weigher)
+
+        when:
+        sut.publishStatistics()
+
+        then:
+        1 * listener.onStatistics("models", { CacheStats stats -> stats.missCount() == 1 })
+        1 * listener.onStatistics("operations", _)
+    }
+
+    @Unroll
+    def "Specification #spec is weighed: #weighed"() {
+        expect:
+        CacheRegistry.isWeighed(spec) == weighed
+
+        where:
+        spec                                     | weighed
+        "maximumSize=10"                         | false
+        "maximumWeight=10"                       | true
+        " expireAfterWrite=1h , maximumWeight=5" | true
+        "maximumSize=10,weakKeys"                | false
+        ""                                       | false
+    }
+
+    def "Caches are reconfigured by the docket groups"() {
+        given:
+        def sut = new CacheRegistry(new MockEnvironment())
+        def cache = sut.build("models", loader, weigher)
+        cache.getUnchecked("a")
+
+        when:
+        sut.configure("group", ["models": "maximumSize=0"])
+        cache.getUnchecked("b")
+        cache.getUnchecked("b")
+
+        then:
+        loads == 3
+        cache.size() == 0
+    }
+
+    def "Caches built after a docket group configured them use its specification"() {
+        given:
+        def sut = new CacheRegistry(new MockEnvironment())
+        sut.configure("group", ["models": "maximumSize=0"])
+
+        when:
+        def cache = sut.build("models", loader, weigher)
+        cache.getUnchecked("a")
+        cache.getUnchecked("a")
+
+        then:
+        loads == 2
+    }
+
+    def "The first docket group to configure a cache wins"() {
+        given:
+        def sut = new CacheRegistry(new MockEnvironment())
+        def cache = sut.build("models", loader, weigher)
+
+        when:
+        sut.configure("first", ["models": "maximumSize=10"])
+        sut.configure("second", ["models": "maximumSize=0"])
+        cache.getUnchecked("a")
+        cache.getUnchecked("a")
+
+        then:
+        loads == 1
+    }
+
+    def "Properties take precedence over the docket groups"() {
+        given:
+        def environment = new MockEnvironment()
+                .withProperty("springfox.documentation.cache.models.spec", "maximumSize=10")
+        def sut = new CacheRegistry(environment)
+        def cache = sut.build("models", loader, weigher)
+
+        when:
+        sut.configure("group", ["models": "maximumSize=0"])
+        cache.getUnchecked("a")
+        cache.getUnchecked("a")
+
+        then:
+        loads == 1
+    }
+
+    def "Caches without a loader are computed by their callers"() {
+        given:
+        def cache = new CacheRegistry().build("models", weigher)
+
+        when:
+        cache.get("a", { ["a"] } as Callable)
+
+        then:
+        cache.getIfPresent("a") == ["a"]
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.configuration
+
+import spock.lang.Specification
+import springfox.documentation.spi.DocumentationType
+import springfox.documentation.spi.service.PluginTiming
+import springfox.documentation.spi.service.PluginTimingListener
+
+import java.util.concurrent.TimeUnit
+
+class PluginTimingsSpec extends Specification {
+    def sut = new PluginTimings()
+
+    def "Nothing is recorded unless timing is enabled"() {
+        given:
+        def listener = Mock(PluginTimingListener)
+        sut.listeners = [listener]
+
+        when:
+        sut.record("plugin", DocumentationType.SWAGGER_2, sut.start())
+        sut.publish()
+
+        then:
+        sut.timings().isEmpty()
+        0 * listener.onTimings(_)
+    }
+
+    def "Invocations are recorded per plugin class and documentation type"() {
+        given:
+        sut.enabled = true
+
+        when:
+        sut.record("plugin", DocumentationType.SWAGGER_2, sut.start())
+        sut.record("other plugin", DocumentationType.SWAGGER_2, sut.start())
+        sut.record("plugin", DocumentationType.SWAGGER_12, sut.start())
+        sut.record(1, DocumentationType.SWAGGER_2, sut.start())
+
+        then:
+        def timings = sut.timings()
+        timings.size() == 3
+        timings.find { it.pluginType == String && it.documentationType == DocumentationType.SWAGGER_2 }
+                .invocations == 2
+        timings.find { it.pluginType == Integer }.invocations == 1
+    }
+
+    def "Timings are reported slowest plugin first"() {
+        given:
+        sut.enabled = true
+
+        when:
+        sut.record("slow", DocumentationType.SWAGGER_2, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(50))
+        sut.record(1, DocumentationType.SWAGGER_2, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5))
+        sut.record(1, DocumentationType.SWAGGER_2, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(20))
+
+        then:
+        def timings = sut.timings()
+        timings*.pluginType == [String, Integer]
+        timings[1].getTotal(TimeUnit.MILLISECONDS) >= 25
+        timings[1].getMaximum(TimeUnit.MILLISECONDS) >= 20
+        timings[1].getMaximum(TimeUnit.MILLISECONDS) < timings[1].getTotal(TimeUnit.MILLISECONDS)
+    }
+
+    def "Timings are published to the listeners"() {
+        given:
+        def listener = Mock(PluginTimingListener)
+        sut.listeners = [listener]
+        sut.enabled = true
+        and:
+        sut.record("plugin", DocumentationType.SWAGGER_2, sut.start())
+
+        when:
+        sut.publish()
+
+        then:
+        1 * listener.onTimings({ List<PluginTiming> timings -> timings*.pluginType == [String] })
+    }
+}
@@ -86,6 +86,23 @@ class SchemaPluginsManagerSpec extends Specification {
         1 * modelPlugin.apply(context)
     }
 
+    def "resolves the plugins of a documentation type once"() {
+        given:
+        def propertyRegistry = Mock(PluginRegistry)
+        def modelRegistry = Mock(PluginRegistry)
+        def manager = new SchemaPluginsManager(propertyRegistry, modelRegistry)
+        def context = new ModelPropertyContext(Mock(ModelPropertyBuilder), Mock(AnnotatedElement),
+                new TypeResolver(), SPRING_WEB)
+
+        when:
+        manager.property(context)
+        manager.property(context)
+
+        then:
+        1 * propertyRegistry.getPluginsFor(SPRING_WEB) >> [propertyPlugin]
+        2 * propertyPlugin.apply(context)
+    }
+
     def "enriches model name when plugins are found"() {
         given:
         def context = inputParam(ExampleWithEnums, SPRING_WEB, alternateTypeProvider(), new DefaultGenericTypeNamingStrategy())
@@ -0,0 +1,79 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema.property
+
+import com.fasterxml.classmate.TypeResolver
+import org.springframework.mock.env.MockEnvironment
+import spock.lang.Specification
+import springfox.documentation.schema.SimpleType
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.schema.property.bean.AccessorsProvider
+import springfox.documentation.schema.property.field.FieldProvider
+
+class MemberResolutionCacheSpec extends Specification {
+    def "Members are resolved once per type and shared across the providers"() {
+        given:
+        def typeResolver = new TypeResolver()
+        def sut = new MemberResolutionCache(typeResolver)
+        def type = typeResolver.resolve(SimpleType)
+        when:
+        new FieldProvider(sut).in(type)
+        new AccessorsProvider(sut).in(type)
+        new FactoryMethodProvider(sut).constructors(type)
+        then:
+        sut.stats().missCount() == 1
+        sut.stats().hitCount() == 2
+    }
+
+    def "Equal types resolved independently share the cache entry"() {
+        given:
+        def sut = new MemberResolutionCache(new TypeResolver())
+        when:
+        def first = sut.resolve(new TypeResolver().resolve(SimpleType))
+        def second = sut.resolve(new TypeResolver().resolve(SimpleType))
+        then:
+        first.is(second)
+        sut.stats().missCount() == 1
+    }
+
+    def "Cache is bounded"() {
+        given:
+        def typeResolver = new TypeResolver()
+        def caches = new CacheRegistry(new MockEnvironment()
+                .withProperty("springfox.documentation.cache.member-resolution.spec", "maximumSize=1"))
+        def sut = new MemberResolutionCache(typeResolver, caches)
+        when:
+        sut.resolve(typeResolver.resolve(SimpleType))
+        sut.resolve(typeResolver.resolve(String))
+        sut.resolve(typeResolver.resolve(SimpleType))
+        then:
+        sut.stats().missCount() == 3
+        sut.stats().evictionCount() >= 1
+    }
+
+    def "Providers created with a type resolver resolve with it"() {
+        given:
+        def typeResolver = Spy(TypeResolver)
+        when:
+        new FieldProvider(typeResolver).in(new TypeResolver().resolve(SimpleType))
+        then:
+        (1.._) * typeResolver.resolve(*_)
+    }
+}
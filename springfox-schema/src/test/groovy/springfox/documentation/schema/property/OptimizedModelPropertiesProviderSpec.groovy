@@ -33,6 +33,7 @@ import spock.lang.Specification
 import spock.lang.Specification
 import springfox.documentation.schema.*
 import springfox.documentation.schema.*
+import springfox.documentation.schema.configuration.CacheRegistry
 import springfox.documentation.schema.configuration.ObjectMapperConfigured
 import springfox.documentation.schema.configuration.ObjectMapperConfigured
 import springfox.documentation.schema.mixins.SchemaPluginsSupport
@@ -88,6 +89,34 @@ class OptimizedModelPropertiesProviderSpec extends Specification {
         returnValue.collect { it.name }.containsAll(['property'])
     }
 
+    def "property definitions are read again once another object mapper is configured"() {
+        given:
+        TypeResolver typeResolver = new TypeResolver()
+        BeanPropertyNamingStrategy namingStrategy = new ObjectMapperBeanPropertyNamingStrategy()
+        PluginRegistry<TypeNameProviderPlugin, DocumentationType> modelNameRegistry =
+                OrderAwarePluginRegistry.create([new DefaultTypeNameProvider()])
+        TypeNameExtractor typeNameExtractor = new TypeNameExtractor(typeResolver, modelNameRegistry)
+        OptimizedModelPropertiesProvider sut = new OptimizedModelPropertiesProvider(new AccessorsProvider(typeResolver)
+                , new FieldProvider(typeResolver), new FactoryMethodProvider(typeResolver), typeResolver,
+                namingStrategy, defaultSchemaPlugins(), typeNameExtractor, new CacheRegistry())
+        ResolvedType type = typeResolver.resolve(TypeWithSetterButNoGetter)
+        def context = returnValue(type, SPRING_WEB, new AlternateTypeProvider(newArrayList()),
+                new DefaultGenericTypeNamingStrategy())
+
+        when:
+        [new ObjectMapper(), new ObjectMapper(), null].each { mapper ->
+            if (mapper != null) {
+                def objectMapperConfigured = new ObjectMapperConfigured(this, mapper)
+                namingStrategy.onApplicationEvent(objectMapperConfigured)
+                sut.onApplicationEvent(objectMapperConfigured)
+            }
+            sut.propertiesFor(type, context)
+        }
+        then:
+        sut.propertyDefinitions.stats().missCount() == 2
+        sut.propertyDefinitions.stats().hitCount() == 1
+    }
+
     def "model unwrapped properties are detected correctly"() {
         given:
         TypeResolver typeResolver = new TypeResolver()
@@ -153,4 +182,35 @@ class OptimizedModelPropertiesProviderSpec extends Specification {
         inputValue.collect { it.name }.containsAll([])
         returnValue.collect { it.name }.containsAll([])
     }
+
+    def "bean descriptions and members are introspected once per type"() {
+        given:
+        TypeResolver typeResolver = new TypeResolver()
+        BeanPropertyNamingStrategy namingStrategy = new ObjectMapperBeanPropertyNamingStrategy()
+        PluginRegistry<TypeNameProviderPlugin, DocumentationType> modelNameRegistry =
+                OrderAwarePluginRegistry.create([new DefaultTypeNameProvider()])
+        TypeNameExtractor typeNameExtractor = new TypeNameExtractor(typeResolver, modelNameRegistry)
+        def fields = Spy(FieldProvider, constructorArgs: [typeResolver])
+        OptimizedModelPropertiesProvider sut = new OptimizedModelPropertiesProvider(new AccessorsProvider(typeResolver)
+                , fields, new FactoryMethodProvider(typeResolver), typeResolver, namingStrategy,
+                defaultSchemaPlugins(), typeNameExtractor)
+        ResolvedType type = typeResolver.resolve(TypeWithGettersAndSetters)
+
+        and:
+        def mapper = Spy(ObjectMapper)
+        namingStrategy.onApplicationEvent(new ObjectMapperConfigured(this, new ObjectMapper()))
+        sut.onApplicationEvent(new ObjectMapperConfigured(this, mapper))
+        def context = returnValue(type, SPRING_WEB,
+                new AlternateTypeProvider(newArrayList()),
+                new DefaultGenericTypeNamingStrategy())
+
+        when:
+        def first = sut.propertiesFor(type, context)
+        def second = sut.propertiesFor(type, context)
+
+        then:
+        1 * mapper.getSerializationConfig()
+        1 * fields.in(type)
+        first.collect { it.name } == second.collect { it.name }
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spi.schema.contexts
+
+import com.fasterxml.classmate.TypeResolver
+import spock.lang.Specification
+import springfox.documentation.schema.DefaultGenericTypeNamingStrategy
+import springfox.documentation.schema.GenericType
+import springfox.documentation.schema.SimpleType
+import springfox.documentation.spi.schema.AlternateTypeProvider
+
+import static springfox.documentation.spi.DocumentationType.SWAGGER_2
+import static springfox.documentation.spi.schema.contexts.ModelContext.fromParent
+import static springfox.documentation.spi.schema.contexts.ModelContext.inputParam
+
+class ModelContextSpec extends Specification {
+    def resolver = new TypeResolver()
+    def root = inputParam(SimpleType, SWAGGER_2, new AlternateTypeProvider([]), new DefaultGenericTypeNamingStrategy())
+
+    def "Types seen by a context are seen by its children but not by its parents or siblings"() {
+        given:
+        def child = fromParent(root, resolver.resolve(String))
+        def grandChild = fromParent(child, resolver.resolve(Integer))
+        def sibling = fromParent(root, resolver.resolve(Long))
+
+        when:
+        child.seen(resolver.resolve(SimpleType))
+
+        then:
+        child.hasSeenBefore(resolver.resolve(SimpleType))
+        grandChild.hasSeenBefore(resolver.resolve(SimpleType))
+        !root.hasSeenBefore(resolver.resolve(SimpleType))
+        !sibling.hasSeenBefore(resolver.resolve(SimpleType))
+    }
+
+    def "Types seen by several contexts are seen by the children of each of them"() {
+        given:
+        def child = fromParent(root, resolver.resolve(String))
+        def grandChild = fromParent(child, resolver.resolve(Integer))
+        def sibling = fromParent(root, resolver.resolve(Long))
+        def nephew = fromParent(sibling, resolver.resolve(Integer))
+        def cousin = fromParent(fromParent(root, resolver.resolve(Double)), resolver.resolve(Integer))
+
+        when:
+        grandChild.seen(resolver.resolve(SimpleType))
+        sibling.seen(resolver.resolve(SimpleType))
+
+        then:
+        grandChild.hasSeenBefore(resolver.resolve(SimpleType))
+        nephew.hasSeenBefore(resolver.resolve(SimpleType))
+        !child.hasSeenBefore(resolver.resolve(SimpleType))
+        !cousin.hasSeenBefore(resolver.resolve(SimpleType))
+        !root.hasSeenBefore(resolver.resolve(SimpleType))
+    }
+
+    def "Types seen after a child was created are seen by the child"() {
+        given:
+        def child = fromParent(root, resolver.resolve(String))
+
+        when:
+        root.seen(resolver.resolve(SimpleType))
+
+        then:
+        child.hasSeenBefore(resolver.resolve(SimpleType))
+    }
+
+    def "Parameterized types are seen when the raw type was seen"() {
+        given:
+        def child = fromParent(root, resolver.resolve(String))
+
+        when:
+        root.seen(resolver.resolve(GenericType))
+
+        then:
+        child.hasSeenBefore(resolver.resolve(GenericType, String))
+        !child.hasSeenBefore(resolver.resolve(SimpleType))
+    }
+
+    def "Raw types are not seen when only a parameterized type was seen"() {
+        when:
+        root.seen(resolver.resolve(GenericType, String))
+
+        then:
+        root.hasSeenBefore(resolver.resolve(GenericType, String))
+        !root.hasSeenBefore(resolver.resolve(GenericType))
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.schema;
+
+public class TypeWithSiblingProperties {
+    private ComplexType first;
+    private InheritedComplexType second;
+
+    public ComplexType getFirst() {
+        return first;
+    }
+
+    public void setFirst(ComplexType first) {
+        this.first = first;
+    }
+
+    public InheritedComplexType getSecond() {
+        return second;
+    }
+
+    public void setSecond(InheritedComplexType second) {
+        this.second = second;
+    }
+}
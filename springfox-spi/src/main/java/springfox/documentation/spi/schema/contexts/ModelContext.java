@@ -28,17 +28,22 @@ import springfox.documentation.spi.schema.AlternateTypeProvider;
 import springfox.documentation.spi.schema.GenericTypeNamingStrategy;
 
 import java.lang.reflect.Type;
-import java.util.Set;
+import java.util.List;
+import java.util.Map;
 
-import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
 
 public class ModelContext {
+    private static final TypeResolver RAW_TYPES = new TypeResolver();
+
     private final Type type;
     private final boolean returnType;
     private final DocumentationType documentationType;
 
     private final ModelContext parentContext;
-    private final Set<ResolvedType> seenTypes = newHashSet();
+    private final Branch branch;
+    private final SeenTypes seenTypes;
     private final ModelBuilder modelBuilder;
     private final AlternateTypeProvider alternateTypeProvider;
     private GenericTypeNamingStrategy genericNamingStrategy;
@@ -50,6 +55,8 @@ public class ModelContext {
         this.alternateTypeProvider = alternateTypeProvider;
         this.genericNamingStrategy = genericNamingStrategy;
         this.parentContext = null;
+        this.branch = new Branch(null);
+        this.seenTypes = new SeenTypes();
         this.type = type;
         this.returnType = returnType;
         this.modelBuilder = new ModelBuilder();
@@ -57,6 +64,8 @@ public class ModelContext {
 
     ModelContext(ModelContext parentContext, ResolvedType input) {
         this.parentContext = parentContext;
+        this.branch = new Branch(parentContext.branch);
+        this.seenTypes = parentContext.seenTypes;
         this.type = input;
         this.returnType = parentContext.isReturnType();
         this.documentationType = parentContext.getDocumentationType();
@@ -152,28 +161,13 @@ public class ModelContext {
      * @return true or false
      */
     public boolean hasSeenBefore(ResolvedType resolvedType) {
-        return seenTypes.contains(resolvedType)
-                || seenTypes.contains(new TypeResolver().resolve(resolvedType.getErasedType()))
-                || parentHasSeenBefore(resolvedType);
+        return seenTypes.seenBy(branch, resolvedType);
     }
 
     public DocumentationType getDocumentationType() {
         return documentationType;
     }
 
-    /**
-     * Answers the question, has the given type been processed by its parent context?
-     *
-     * @param resolvedType - type to check
-     * @return true or false
-     */
-    private boolean parentHasSeenBefore(ResolvedType resolvedType) {
-        if (parentContext == null) {
-            return false;
-        }
-        return parentContext.hasSeenBefore(resolvedType);
-    }
-
     public GenericTypeNamingStrategy getGenericNamingStrategy() {
         if (parentContext == null) {
             return genericNamingStrategy;
@@ -186,7 +180,7 @@ public class ModelContext {
     }
 
     public void seen(ResolvedType resolvedType) {
-        seenTypes.add(resolvedType);
+        seenTypes.add(branch, resolvedType);
     }
 
     @Override
@@ -219,4 +213,74 @@ public class ModelContext {
     public int hashCode() {
         return Objects.hashCode(type, documentationType, returnType, namingStrategy());
     }
+
+    /**
+     * Index of the types seen by a root context and all of its children. Each type, and the erased class of each raw
+     * type, is mapped to the branches of the contexts that marked it, so a type is only seen by the context that marked
+     * it and the children of that context. Types marked by the root, or not marked at all, are answered by the lookup
+     * alone. Only the branches are kept, the contexts that marked the types are not.
+     */
+    private static class SeenTypes {
+        private final Map<ResolvedType, List<Branch>> byType = newHashMap();
+        private final Map<Class<?>, List<Branch>> byRawType = newHashMap();
+
+        void add(Branch branch, ResolvedType resolvedType) {
+            mark(byType, resolvedType, branch);
+            if (resolvedType.equals(RAW_TYPES.resolve(resolvedType.getErasedType()))) {
+                mark(byRawType, resolvedType.getErasedType(), branch);
+            }
+        }
+
+        boolean seenBy(Branch branch, ResolvedType resolvedType) {
+            return markedOn(branch, byType.get(resolvedType))
+                    || markedOn(branch, byRawType.get(resolvedType.getErasedType()));
+        }
+
+        private static boolean markedOn(Branch branch, List<Branch> markers) {
+            if (markers == null) {
+                return false;
+            }
+            for (int i = 0; i < markers.size(); i++) {
+                if (markers.get(i).isAncestorOf(branch)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static <K> void mark(Map<K, List<Branch>> index, K key, Branch branch) {
+            List<Branch> markers = index.get(key);
+            if (markers == null) {
+                markers = newArrayList();
+                index.put(key, markers);
+            }
+            if (!markers.contains(branch)) {
+                markers.add(branch);
+            }
+        }
+    }
+
+    /**
+     * The position of a context in the tree of contexts of its root.
+     */
+    private static class Branch {
+        private final Branch parent;
+        private final int depth;
+
+        Branch(Branch parent) {
+            this.parent = parent;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        boolean isAncestorOf(Branch branch) {
+            if (parent == null) {
+                return true;
+            }
+            Branch ancestor = branch;
+            while (ancestor.depth > depth) {
+                ancestor = ancestor.parent;
+            }
+            return ancestor == this;
+        }
+    }
 }
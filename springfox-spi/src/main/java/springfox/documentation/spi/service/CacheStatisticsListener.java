@@ -0,0 +1,36 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spi.service;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Receives the statistics of the caches used while scanning the documentation, e.g. to export hit rates, eviction
+ * counts and load times to a metrics system. Any bean implementing this interface is notified.
+ */
+public interface CacheStatisticsListener {
+    /**
+     * Called once the documentation has been scanned, for each cache in turn.
+     *
+     * @param cacheName - name of the cache, as used in the springfox.documentation.cache.&lt;name&gt; properties
+     * @param stats     - statistics accumulated since the cache was created
+     */
+    void onStatistics(String cacheName, CacheStats stats);
+}
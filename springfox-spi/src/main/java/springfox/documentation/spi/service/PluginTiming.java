@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spi.service;
+
+import springfox.documentation.spi.DocumentationType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The time spent in a plugin while scanning the documentation of a documentation type.
+ */
+public class PluginTiming {
+    private final Class<?> pluginType;
+    private final DocumentationType documentationType;
+    private final long invocations;
+    private final long totalNanos;
+    private final long maximumNanos;
+
+    public PluginTiming(Class<?> pluginType,
+                        DocumentationType documentationType,
+                        long invocations,
+                        long totalNanos,
+                        long maximumNanos) {
+        this.pluginType = pluginType;
+        this.documentationType = documentationType;
+        this.invocations = invocations;
+        this.totalNanos = totalNanos;
+        this.maximumNanos = maximumNanos;
+    }
+
+    public Class<?> getPluginType() {
+        return pluginType;
+    }
+
+    /**
+     * @return the documentation type the plugin was applied for, null when the context did not name one
+     */
+    public DocumentationType getDocumentationType() {
+        return documentationType;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getTotal(TimeUnit unit) {
+        return unit.convert(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaximum(TimeUnit unit) {
+        return unit.convert(maximumNanos, TimeUnit.NANOSECONDS);
+    }
+}
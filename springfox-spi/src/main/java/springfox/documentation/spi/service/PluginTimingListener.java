@@ -0,0 +1,36 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spi.service;
+
+import java.util.List;
+
+/**
+ * Receives the time spent in each documentation and schema plugin when the springfox.documentation.plugins.timing
+ * property is true, e.g. to find the plugin that slows the scan down. Any bean implementing this interface is
+ * notified.
+ */
+public interface PluginTimingListener {
+    /**
+     * Called once the documentation has been scanned.
+     *
+     * @param timings - the timings accumulated since the application started, slowest plugin first
+     */
+    void onTimings(List<PluginTiming> timings);
+}
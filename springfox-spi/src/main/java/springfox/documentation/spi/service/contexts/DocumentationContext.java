@@ -33,6 +33,7 @@ import springfox.documentation.spi.schema.AlternateTypeProvider;
 import springfox.documentation.spi.schema.GenericTypeNamingStrategy;
 import springfox.documentation.spi.service.ResourceGroupingStrategy;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -61,6 +62,7 @@ public class DocumentationContext {
     private final GenericTypeNamingStrategy genericsNamingStrategy;
     private final Optional<String> pathMapping;
     private boolean isUrlTemplatesEnabled;
+    private final Map<String, String> cacheSpecifications;
 
     public DocumentationContext(DocumentationType documentationType,
                                 List<RequestHandler> handlerMappings,
@@ -84,6 +86,55 @@ public class DocumentationContext {
                                 GenericTypeNamingStrategy genericsNamingStrategy,
                                 Optional<String> pathMapping,
                                 boolean isUrlTemplatesEnabled) {
+        this(documentationType,
+                handlerMappings,
+                apiInfo,
+                groupName,
+                apiSelector,
+                ignorableParameterTypes,
+                globalResponseMessages,
+                globalOperationParameter,
+                resourceGroupingStrategy,
+                pathProvider,
+                securityContexts,
+                securitySchemes,
+                alternateTypeRules,
+                listingReferenceOrdering,
+                apiDescriptionOrdering,
+                operationOrdering,
+                produces,
+                consumes,
+                host,
+                protocols,
+                genericsNamingStrategy,
+                pathMapping,
+                isUrlTemplatesEnabled,
+                new HashMap<String, String>());
+    }
+
+    public DocumentationContext(DocumentationType documentationType,
+                                List<RequestHandler> handlerMappings,
+                                ApiInfo apiInfo, String groupName,
+                                ApiSelector apiSelector,
+                                Set<Class> ignorableParameterTypes,
+                                Map<RequestMethod, List<ResponseMessage>> globalResponseMessages,
+                                List<Parameter> globalOperationParameter,
+                                ResourceGroupingStrategy resourceGroupingStrategy,
+                                PathProvider pathProvider,
+                                List<SecurityContext> securityContexts,
+                                List<? extends SecurityScheme> securitySchemes,
+                                List<AlternateTypeRule> alternateTypeRules,
+                                Ordering<ApiListingReference> listingReferenceOrdering,
+                                Ordering<ApiDescription> apiDescriptionOrdering,
+                                Ordering<Operation> operationOrdering,
+                                Set<String> produces,
+                                Set<String> consumes,
+                                String host,
+                                Set<String> protocols,
+                                GenericTypeNamingStrategy genericsNamingStrategy,
+                                Optional<String> pathMapping,
+                                boolean isUrlTemplatesEnabled,
+                                Map<String, String> cacheSpecifications) {
 
         this.documentationType = documentationType;
         this.handlerMappings = handlerMappings;
@@ -107,6 +158,7 @@ public class DocumentationContext {
         this.genericsNamingStrategy = genericsNamingStrategy;
         this.pathMapping = pathMapping;
         this.isUrlTemplatesEnabled = isUrlTemplatesEnabled;
+        this.cacheSpecifications = cacheSpecifications;
         this.alternateTypeProvider = new AlternateTypeProvider(alternateTypeRules);
     }
 
@@ -206,4 +258,12 @@ public class DocumentationContext {
     public boolean isUriTemplatesEnabled() {
         return isUrlTemplatesEnabled;
     }
+
+    /**
+     * @return the guava cache specifications of the scanning caches, keyed by cache name
+     */
+    @Incubating("2.3")
+    public Map<String, String> getCacheSpecifications() {
+        return cacheSpecifications;
+    }
 }
@@ -39,6 +39,7 @@ import java.util.Set;
 import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Maps.newTreeMap;
 import static com.google.common.collect.Sets.newHashSet;
 import static springfox.documentation.builders.BuilderDefaults.defaultIfAbsent;
@@ -73,6 +74,7 @@ public class DocumentationContextBuilder {
     private GenericTypeNamingStrategy genericsNamingStrategy;
     private Optional<String> pathMapping;
     private boolean isUrlTemplatesEnabled;
+    private final Map<String, String> cacheSpecifications = newLinkedHashMap();
 
     public DocumentationContextBuilder(DocumentationType documentationType) {
         this.documentationType = documentationType;
@@ -227,6 +229,11 @@ public class DocumentationContextBuilder {
         return this;
     }
 
+    public DocumentationContextBuilder cacheSpecifications(Map<String, String> cacheSpecifications) {
+        this.cacheSpecifications.putAll(cacheSpecifications);
+        return this;
+    }
+
     public DocumentationContext build() {
         Map<RequestMethod, List<ResponseMessage>> responseMessages = aggregateResponseMessages();
         return new DocumentationContext(documentationType,
@@ -250,7 +257,8 @@ public class DocumentationContextBuilder {
                 host,
                 protocols,
                 genericsNamingStrategy,
-                pathMapping, isUrlTemplatesEnabled);
+                pathMapping, isUrlTemplatesEnabled,
+                cacheSpecifications);
     }
 
     private Function<Function<TypeResolver, AlternateTypeRule>, AlternateTypeRule>
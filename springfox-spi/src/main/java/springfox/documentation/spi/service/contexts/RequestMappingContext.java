@@ -28,10 +28,9 @@ import springfox.documentation.builders.ApiDescriptionBuilder;
 import springfox.documentation.schema.Model;
 import springfox.documentation.service.Operation;
 
+import java.util.Collections;
 import java.util.Map;
 
-import static com.google.common.collect.Maps.newHashMap;
-
 public class RequestMappingContext {
     private final RequestMappingInfo requestMappingInfo;
     private final HandlerMethod handlerMethod;
@@ -40,7 +39,7 @@ public class RequestMappingContext {
     private final String requestMappingPattern;
     private final ApiDescriptionBuilder apiDescriptionBuilder;
 
-    private final Map<String, Model> modelMap = newHashMap();
+    private final Map<String, Model> modelMap;
 
     public RequestMappingContext(DocumentationContext context,
                                  RequestMappingInfo requestMappingInfo,
@@ -54,6 +53,7 @@ public class RequestMappingContext {
                 context.getAlternateTypeProvider(),
                 context.getGenericsNamingStrategy());
         this.apiDescriptionBuilder = new ApiDescriptionBuilder(documentationContext.operationOrdering());
+        this.modelMap = ImmutableMap.of();
     }
 
     private RequestMappingContext(DocumentationContext context,
@@ -68,6 +68,7 @@ public class RequestMappingContext {
         this.operationModelContextsBuilder = operationModelContextsBuilder;
         this.requestMappingPattern = requestMappingPattern;
         this.apiDescriptionBuilder = new ApiDescriptionBuilder(documentationContext.operationOrdering());
+        this.modelMap = ImmutableMap.of();
     }
 
     private RequestMappingContext(DocumentationContext context,
@@ -83,7 +84,7 @@ public class RequestMappingContext {
         this.operationModelContextsBuilder = operationModelContextsBuilder;
         this.requestMappingPattern = requestMappingPattern;
         this.apiDescriptionBuilder = new ApiDescriptionBuilder(documentationContext.operationOrdering());
-        modelMap.putAll(knownModels);
+        this.modelMap = Collections.unmodifiableMap(knownModels);
     }
 
     public RequestMappingInfo getRequestMappingInfo() {
@@ -106,6 +107,14 @@ public class RequestMappingContext {
         return ImmutableMap.copyOf(modelMap);
     }
 
+    /**
+     * @return a read-only view of the models known when this request mapping is read. Unlike {@link #getModelMap()}
+     * the models are not copied, the view reflects the models accumulated for the resource group it belongs to.
+     */
+    public Map<String, Model> getKnownModels() {
+        return modelMap;
+    }
+
     public OperationModelContextsBuilder operationModelsBuilder() {
         return operationModelContextsBuilder;
     }
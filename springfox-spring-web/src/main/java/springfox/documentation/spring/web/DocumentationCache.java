@@ -19,26 +19,126 @@
 
 package springfox.documentation.spring.web;
 
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
 import springfox.documentation.service.Documentation;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 
+import static com.google.common.base.Suppliers.memoize;
+import static com.google.common.base.Suppliers.ofInstance;
 import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
 
+/**
+ * Holds the scanned documentation by group name. Documentation may be published from the bootstrapping threads while
+ * it is being read by request threads, hence access to the lookup is synchronized.
+ * <p/>
+ * Groups may also be registered lazily, in which case the documentation is scanned the first time it is looked up.
+ * When the documentation is scanned in the background the cache is not ready until the scan completes. Groups that
+ * are registered lazily are ready as soon as they are registered, since looking them up scans them.
+ */
 public class DocumentationCache {
-    private Map<String, Documentation> documentationLookup = newLinkedHashMap();
+    private final Map<String, Supplier<Documentation>> documentationLookup = newLinkedHashMap();
+    private volatile ListenableFuture<?> scan = immediateFuture(null);
+    private volatile int generation;
+
+    public synchronized void addDocumentation(Documentation documentation) {
+        documentationLookup.put(documentation.getGroupName(), ofInstance(documentation));
+        changed();
+    }
+
+    /**
+     * Registers a group whose documentation is scanned on first access. Concurrent lookups of the same group wait for
+     * a single scan; a scan that fails is retried on the next lookup. The generation changes again once the scan
+     * has completed.
+     *
+     * @param groupName - the group name
+     * @param scan      - scans the documentation of the group
+     */
+    public synchronized void addDocumentation(String groupName, Supplier<Documentation> scan) {
+        documentationLookup.put(groupName, memoize(changing(scan)));
+        changed();
+    }
 
-    public void addDocumentation(Documentation documentation) {
-        documentationLookup.put(documentation.getGroupName(), documentation);
+    /**
+     * @return a number that changes whenever documentation is added or a lazily registered group has been scanned, so
+     * that anything derived from the documentation can be invalidated
+     */
+    public int generation() {
+        return generation;
     }
 
     public Documentation documentationByGroup(String groupName) {
-        return documentationLookup.get(groupName);
+        Supplier<Documentation> documentation = lookup(groupName);
+        if (documentation == null) {
+            return null;
+        }
+        return documentation.get();
+    }
+
+    /**
+     * @return the names of all the registered groups, without scanning the groups that are registered lazily
+     */
+    public synchronized Set<String> groupNames() {
+        return ImmutableSet.copyOf(documentationLookup.keySet());
     }
 
+    /**
+     * @return the documentation of all the groups, scanning the groups that are registered lazily if need be
+     */
     public Map<String, Documentation> all() {
-        return Collections.unmodifiableMap(documentationLookup);
+        Map<String, Documentation> all = newLinkedHashMap();
+        for (String each : groupNames()) {
+            all.put(each, documentationByGroup(each));
+        }
+        return Collections.unmodifiableMap(all);
+    }
+
+    /**
+     * Registers a scan of the documentation that is in progress in the background.
+     *
+     * @param scan - completes once all the documentation groups have been added
+     */
+    public void scanning(ListenableFuture<?> scan) {
+        this.scan = scan;
     }
 
+    /**
+     * @return true unless the documentation is still being scanned in the background, in particular when the groups
+     * are registered lazily
+     */
+    public boolean isReady() {
+        return scan.isDone();
+    }
+
+    /**
+     * @return a future that completes once the documentation has been scanned, so that other beans can wait for the
+     * documentation when they need it
+     */
+    public ListenableFuture<?> whenReady() {
+        return scan;
+    }
+
+    private synchronized Supplier<Documentation> lookup(String groupName) {
+        return documentationLookup.get(groupName);
+    }
+
+    private synchronized void changed() {
+        generation++;
+    }
+
+    private Supplier<Documentation> changing(final Supplier<Documentation> scan) {
+        return new Supplier<Documentation>() {
+            @Override
+            public Documentation get() {
+                Documentation documentation = scan.get();
+                changed();
+                return documentation;
+            }
+        };
+    }
 }
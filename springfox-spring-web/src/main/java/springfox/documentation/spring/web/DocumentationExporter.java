@@ -0,0 +1,122 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Joiner;
+import com.google.common.io.Files;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import springfox.documentation.service.Documentation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Throwables.propagate;
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * Generates the documentation of every docket group at build time. The application context is booted from the
+ * given configuration classes without a servlet container, the documentation is scanned and every
+ * {@link DocumentationWriter} writes its formats to the output directory, along with an index of the formats of each
+ * group. Packaged below META-INF/springfox the resources are served by the documentation endpoints when the
+ * springfox.documentation.bootstrap.precomputed property is true.
+ * <p/>
+ * Usage: DocumentationExporter &lt;output directory&gt; &lt;configuration class&gt;...
+ * <p/>
+ * The context path the documentation is generated for can be set using the springfox.documentation.export.context-path
+ * system property. The application context is given a {@link MockServletContext}, so spring-test has to be on the
+ * classpath of the exporter.
+ */
+public class DocumentationExporter {
+    private static final Logger log = LoggerFactory.getLogger(DocumentationExporter.class);
+
+    private final File outputDirectory;
+
+    public DocumentationExporter(File outputDirectory) {
+        this.outputDirectory = outputDirectory;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: DocumentationExporter <output directory> <configuration class>...");
+        }
+        Class<?>[] configurations = new Class<?>[args.length - 1];
+        for (int index = 1; index < args.length; index++) {
+            configurations[index - 1] = ClassUtils.forName(args[index], ClassUtils.getDefaultClassLoader());
+        }
+        new DocumentationExporter(new File(args[0])).export(configurations);
+    }
+
+    public void export(Class<?>... configurations) throws IOException {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(servletContext(System.getProperty("springfox.documentation.export.context-path", "")));
+        context.register(configurations);
+        try {
+            context.refresh();
+            export(context.getBean(DocumentationCache.class),
+                    context.getBeansOfType(DocumentationWriter.class).values());
+        } finally {
+            context.close();
+        }
+    }
+
+    void export(DocumentationCache documentationCache, Collection<DocumentationWriter> writers) throws IOException {
+        try {
+            documentationCache.whenReady().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw propagate(e);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Unable to create " + outputDirectory);
+        }
+        for (String groupName : documentationCache.groupNames()) {
+            Documentation documentation = documentationCache.documentationByGroup(groupName);
+            List<String> formats = newArrayList();
+            for (DocumentationWriter writer : writers) {
+                for (Map.Entry<String, byte[]> each : writer.write(documentation).entrySet()) {
+                    File file = new File(outputDirectory, DocumentationSnapshots.fileName(groupName, each.getKey()));
+                    Files.write(each.getValue(), file);
+                    formats.add(each.getKey());
+                    log.info("Wrote the {} documentation of group {} to {}", each.getKey(), groupName, file);
+                }
+            }
+            Files.write(Joiner.on('\n').join(formats), new File(outputDirectory,
+                    DocumentationSnapshots.indexFileName(groupName)), UTF_8);
+        }
+    }
+
+    private static MockServletContext servletContext(String contextPath) {
+        MockServletContext servletContext = new MockServletContext();
+        servletContext.setContextPath(contextPath);
+        return servletContext;
+    }
+}
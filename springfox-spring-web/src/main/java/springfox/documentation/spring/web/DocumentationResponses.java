@@ -0,0 +1,141 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Splitter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import springfox.documentation.spring.web.json.Json;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public class DocumentationResponses {
+    private DocumentationResponses() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Response for documentation requests that arrive while the documentation is still being scanned
+     *
+     * @param retryAfterSeconds - seconds after which the client should retry the request
+     * @param <T>               - type of the response body
+     * @return a 503 (Service Unavailable) response with a Retry-After header
+     */
+    public static <T> ResponseEntity<T> notReady(int retryAfterSeconds) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Retry-After", String.valueOf(retryAfterSeconds));
+        return new ResponseEntity<T>(headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Response for serialized documentation that carries its ETag. Requests whose If-None-Match header matches the
+     * ETag are answered without a body. Tags are compared weakly, i.e. a W/ prefix is ignored.
+     * <p/>
+     * When compression is enabled and the client accepts gzip, the compressed documentation is written to the servlet
+     * response directly and null is returned, which spring mvc treats as a response that has been handled.
+     *
+     * @param documentation - the serialized documentation
+     * @param request       - the documentation request
+     * @param response      - the documentation response
+     * @param compress      - whether the compressed documentation may be served
+     * @return a 304 (Not Modified) response if the client holds the current documentation, a 200 (OK) otherwise
+     * @throws IOException if the compressed documentation cannot be written
+     */
+    public static ResponseEntity<Json> serialized(SerializedDocumentation documentation,
+                                                  HttpServletRequest request,
+                                                  HttpServletResponse response,
+                                                  boolean compress) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (compress) {
+            headers.set("Vary", "Accept-Encoding");
+            if (acceptsGzip(request.getHeader("Accept-Encoding"))) {
+                headers.setETag(documentation.getGzippedETag());
+                if (matches(ifNoneMatch, documentation.getGzippedETag())) {
+                    return new ResponseEntity<Json>(headers, HttpStatus.NOT_MODIFIED);
+                }
+                writeGzipped(documentation, headers, response);
+                return null;
+            }
+        }
+        headers.setETag(documentation.getETag());
+        if (matches(ifNoneMatch, documentation.getETag())) {
+            return new ResponseEntity<Json>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        return new ResponseEntity<Json>(documentation.getJson(), headers, HttpStatus.OK);
+    }
+
+    private static void writeGzipped(SerializedDocumentation documentation,
+                                     HttpHeaders headers,
+                                     HttpServletResponse response) throws IOException {
+        byte[] gzipped = documentation.getGzipped();
+        for (Map.Entry<String, List<String>> each : headers.entrySet()) {
+            response.setHeader(each.getKey(), each.getValue().get(0));
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/json;charset=UTF-8");
+        response.setHeader("Content-Encoding", "gzip");
+        response.setContentLength(gzipped.length);
+        response.getOutputStream().write(gzipped);
+        response.flushBuffer();
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(acceptEncoding)) {
+            List<String> coding = Splitter.on(';').trimResults().splitToList(each);
+            if (("gzip".equalsIgnoreCase(coding.get(0)) || "*".equals(coding.get(0))) && !isRejected(coding)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(List<String> coding) {
+        for (String each : coding.subList(1, coding.size())) {
+            if (each.replace(" ", "").matches("q=0(\\.0*)?")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String each : Splitter.on(',').trimResults().omitEmptyStrings().split(ifNoneMatch)) {
+            if (each.equals("*") || opaqueTag(each).equals(opaqueTag(eTag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
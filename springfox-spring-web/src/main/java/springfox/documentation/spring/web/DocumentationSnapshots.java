@@ -0,0 +1,428 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Optional;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+import com.google.common.io.Resources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.ClassUtils;
+import springfox.documentation.RequestHandler;
+import springfox.documentation.schema.Model;
+import springfox.documentation.service.ApiInfo;
+import springfox.documentation.service.ApiListing;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.service.SecurityScheme;
+import springfox.documentation.spi.service.contexts.DocumentationContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.Properties;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.google.common.base.Strings.nullToEmpty;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static com.google.common.collect.Sets.newTreeSet;
+import static java.util.Collections.newSetFromMap;
+
+/**
+ * Keeps the serialized documentation of each group in a local directory so that a restart of an unchanged
+ * application does not have to scan the documentation again. Snapshots are only kept when the
+ * springfox.documentation.bootstrap.snapshot-dir property is set.
+ * <p/>
+ * Each snapshot is keyed by a fingerprint of the documentation context, i.e. the group configuration, the selected
+ * request handlers and the bytecode of the controllers, chained with the fingerprints of the groups restored before
+ * it, since operation ids are made unique across the groups in bootstrap order. The bytecode of the model classes
+ * found in the documentation is recorded alongside the snapshot and verified on restore. Configuration that is expressed as code,
+ * like selectors, orderings and alternate type rules, cannot be fingerprinted, so the snapshot directory should be
+ * cleared when only those change.
+ * <p/>
+ * Setting the springfox.documentation.bootstrap.precomputed property to true serves the documentation generated at
+ * build time by the {@link DocumentationExporter} from the classpath instead. A group is only served from the classpath
+ * when the index of its precomputed formats exists and is scanned otherwise; it is also scanned when it is requested in
+ * a format that was not precomputed.
+ */
+public class DocumentationSnapshots {
+    private static final Logger log = LoggerFactory.getLogger(DocumentationSnapshots.class);
+    private static final String SNAPSHOT_VERSION = "2";
+    private static final String FINGERPRINT = "fingerprint";
+    private static final String CLASS_PREFIX = "class.";
+    static final String PRECOMPUTED_LOCATION = "META-INF/springfox/";
+
+    private final ConcurrentMap<String, String> fingerprints = newConcurrentMap();
+    private final ConcurrentMap<String, byte[]> snapshots = newConcurrentMap();
+    private final Set<String> precomputedGroups = newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final ConcurrentMap<String, byte[]> precomputedResources = newConcurrentMap();
+    private String precedingFingerprint = "";
+
+    @Value("${springfox.documentation.bootstrap.snapshot-dir:}")
+    private String snapshotDirectory;
+
+    @Value("${springfox.documentation.bootstrap.precomputed:false}")
+    private boolean precomputed;
+
+    public boolean isEnabled() {
+        return !isNullOrEmpty(snapshotDirectory);
+    }
+
+    /**
+     * Fingerprints the given documentation context and loads the snapshots of its group that are still valid. The
+     * groups are expected to be restored in bootstrap order.
+     *
+     * @param context - the documentation context about to be scanned
+     * @return true if at least one snapshot of the group was restored and scanning the group can be deferred
+     */
+    public synchronized boolean restore(DocumentationContext context) {
+        if (precomputed) {
+            if (isPrecomputed(context.getGroupName())) {
+                log.info("Serving the precomputed documentation of group {}", context.getGroupName());
+                precomputedGroups.add(context.getGroupName());
+                return true;
+            }
+            log.warn("No precomputed documentation found for group {} below {}, the group is scanned instead",
+                    context.getGroupName(), PRECOMPUTED_LOCATION);
+        }
+        if (!isEnabled()) {
+            return false;
+        }
+        String groupName = context.getGroupName();
+        String fingerprint = chained(fingerprint(context));
+        fingerprints.put(groupName, fingerprint);
+        boolean restored = false;
+        for (String format : storedFormats(groupName)) {
+            Optional<Properties> metadata = readMetadata(groupName, format);
+            if (metadata.isPresent() && isValid(metadata.get(), fingerprint)) {
+                Optional<byte[]> content = readContent(groupName, format);
+                if (content.isPresent()) {
+                    snapshots.put(key(groupName, format), content.get());
+                    restored = true;
+                }
+            }
+        }
+        if (restored) {
+            log.info("Restored the documentation snapshot of group {}", groupName);
+        } else {
+            log.info("No valid documentation snapshot found for group {}", groupName);
+        }
+        return restored;
+    }
+
+    /**
+     * Reads the snapshot, or the precomputed resource, of a group in the given format. Only the resources of groups
+     * that were restored are looked up and only the resources that exist are held, so requests for unknown groups or
+     * formats do not grow the snapshots.
+     *
+     * @param groupName - the documentation group
+     * @param format    - the serialization format, e.g. swagger2
+     * @return the serialized documentation, if present
+     */
+    public Optional<byte[]> read(String groupName, String format) {
+        String key = key(groupName, format);
+        if (precomputed && !snapshots.containsKey(key)) {
+            if (!precomputedGroups.contains(groupName)) {
+                return Optional.absent();
+            }
+            byte[] cached = precomputedResources.get(key);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+            Optional<byte[]> resource = precomputedResource(groupName, format);
+            if (resource.isPresent()) {
+                precomputedResources.putIfAbsent(key, resource.get());
+            }
+            return resource;
+        }
+        return Optional.fromNullable(snapshots.get(key));
+    }
+
+    /**
+     * Stores the serialized documentation of a group, unless a snapshot of the same format is already held.
+     *
+     * @param groupName     - the documentation group
+     * @param format        - the serialization format, e.g. swagger2
+     * @param content       - the serialized documentation
+     * @param documentation - the documentation that was serialized, used to record the model classes
+     */
+    public synchronized void write(String groupName, String format, byte[] content, Documentation documentation) {
+        String fingerprint = fingerprints.get(groupName);
+        if (!isEnabled() || fingerprint == null || snapshots.containsKey(key(groupName, format))) {
+            return;
+        }
+        snapshots.put(key(groupName, format), content);
+        Properties metadata = new Properties();
+        metadata.setProperty(FINGERPRINT, fingerprint);
+        for (String each : modelTypes(documentation)) {
+            Optional<String> hash = bytecodeHash(each);
+            if (hash.isPresent()) {
+                metadata.setProperty(CLASS_PREFIX + each, hash.get());
+            }
+        }
+        try {
+            File directory = new File(snapshotDirectory);
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory);
+            }
+            writeAtomically(contentFile(groupName, format), content);
+            writeMetadata(metadataFile(groupName, format), metadata);
+            log.info("Wrote the {} documentation snapshot of group {}", format, groupName);
+        } catch (IOException e) {
+            log.warn("Unable to write the {} documentation snapshot of group {}", format, groupName, e);
+        }
+    }
+
+    String fingerprint(DocumentationContext context) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        put(hasher, SNAPSHOT_VERSION);
+        put(hasher, DocumentationSnapshots.class.getPackage().getImplementationVersion());
+        put(hasher, context.getGroupName());
+        put(hasher, context.getDocumentationType().getName());
+        put(hasher, context.getDocumentationType().getVersion());
+        ApiInfo apiInfo = context.getApiInfo();
+        if (apiInfo != null) {
+            put(hasher, apiInfo.getTitle());
+            put(hasher, apiInfo.getDescription());
+            put(hasher, apiInfo.getVersion());
+            put(hasher, apiInfo.getTermsOfServiceUrl());
+            put(hasher, apiInfo.getEmail());
+            put(hasher, apiInfo.getCreatorName());
+            put(hasher, apiInfo.getLicense());
+            put(hasher, apiInfo.getLicenseUrl());
+        }
+        put(hasher, context.getHost());
+        put(hasher, newTreeSet(context.getProtocols()).toString());
+        put(hasher, newTreeSet(context.getProduces()).toString());
+        put(hasher, newTreeSet(context.getConsumes()).toString());
+        put(hasher, String.valueOf(context.getPathMapping()));
+        put(hasher, String.valueOf(context.isUriTemplatesEnabled()));
+        put(hasher, context.getPathProvider().getApplicationBasePath());
+        put(hasher, typeName(context.getGenericsNamingStrategy()));
+        SortedSet<String> ignorableTypes = newTreeSet();
+        for (Class each : context.getIgnorableParameterTypes()) {
+            ignorableTypes.add(each.getName());
+        }
+        put(hasher, ignorableTypes.toString());
+        if (context.getSecuritySchemes() != null) {
+            for (SecurityScheme each : context.getSecuritySchemes()) {
+                put(hasher, each.getName());
+                put(hasher, each.getType());
+            }
+        }
+        putRequestHandlers(hasher, context);
+        return hasher.hash().toString();
+    }
+
+    private String chained(String fingerprint) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        put(hasher, precedingFingerprint);
+        put(hasher, fingerprint);
+        precedingFingerprint = hasher.hash().toString();
+        return precedingFingerprint;
+    }
+
+    private void putRequestHandlers(Hasher hasher, DocumentationContext context) {
+        SortedSet<String> handlers = newTreeSet();
+        SortedSet<String> classes = newTreeSet();
+        for (RequestHandler each : context.getRequestHandlers()) {
+            if (context.getApiSelector().getRequestHandlerSelector().apply(each)) {
+                handlers.add(each.getRequestMapping() + " " + each.getHandlerMethod().getMethod().toGenericString());
+                Class<?> type = ClassUtils.getUserClass(each.getHandlerMethod().getBeanType());
+                while (type != null && type != Object.class) {
+                    classes.add(type.getName());
+                    type = type.getSuperclass();
+                }
+            }
+        }
+        for (String each : handlers) {
+            put(hasher, each);
+        }
+        for (String each : classes) {
+            put(hasher, each);
+            put(hasher, bytecodeHash(each).orNull());
+        }
+    }
+
+    private boolean isValid(Properties metadata, String fingerprint) {
+        if (!fingerprint.equals(metadata.getProperty(FINGERPRINT))) {
+            return false;
+        }
+        for (String each : metadata.stringPropertyNames()) {
+            if (each.startsWith(CLASS_PREFIX)) {
+                Optional<String> hash = bytecodeHash(each.substring(CLASS_PREFIX.length()));
+                if (!hash.isPresent() || !hash.get().equals(metadata.getProperty(each))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private Set<String> modelTypes(Documentation documentation) {
+        Set<String> types = newTreeSet();
+        for (ApiListing listing : documentation.getApiListings().values()) {
+            if (listing.getModels() != null) {
+                for (Model each : listing.getModels().values()) {
+                    types.add(each.getQualifiedType());
+                }
+            }
+        }
+        return types;
+    }
+
+    private Optional<String> bytecodeHash(String className) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        URL resource = classLoader.getResource(ClassUtils.convertClassNameToResourcePath(className) + ".class");
+        if (resource == null) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(Hashing.sha1().hashBytes(Resources.toByteArray(resource)).toString());
+        } catch (IOException e) {
+            return Optional.absent();
+        }
+    }
+
+    private boolean isPrecomputed(String groupName) {
+        return ClassUtils.getDefaultClassLoader().getResource(PRECOMPUTED_LOCATION + indexFileName(groupName)) != null;
+    }
+
+    private Optional<byte[]> precomputedResource(String groupName, String format) {
+        URL resource = ClassUtils.getDefaultClassLoader().getResource(PRECOMPUTED_LOCATION + fileName(groupName, format));
+        if (resource == null) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(Resources.toByteArray(resource));
+        } catch (IOException e) {
+            log.warn("Unable to read the precomputed {} documentation of group {}", format, groupName, e);
+            return Optional.absent();
+        }
+    }
+
+    private Set<String> storedFormats(String groupName) {
+        Set<String> formats = newTreeSet();
+        File[] files = new File(snapshotDirectory).listFiles();
+        if (files == null) {
+            return formats;
+        }
+        String prefix = encode(groupName) + ".";
+        for (File each : files) {
+            String name = each.getName();
+            if (name.startsWith(prefix) && name.endsWith(".properties")) {
+                String format = name.substring(prefix.length(), name.length() - ".properties".length());
+                if (!format.isEmpty() && !format.contains(".")) {
+                    formats.add(decode(format));
+                }
+            }
+        }
+        return formats;
+    }
+
+    private Optional<Properties> readMetadata(String groupName, String format) {
+        try {
+            Properties metadata = new Properties();
+            metadata.load(new ByteArrayInputStream(Files.toByteArray(metadataFile(groupName, format))));
+            return Optional.of(metadata);
+        } catch (IOException e) {
+            log.warn("Unable to read the {} documentation snapshot of group {}", format, groupName, e);
+            return Optional.absent();
+        }
+    }
+
+    private Optional<byte[]> readContent(String groupName, String format) {
+        try {
+            return Optional.of(Files.toByteArray(contentFile(groupName, format)));
+        } catch (IOException e) {
+            log.warn("Unable to read the {} documentation snapshot of group {}", format, groupName, e);
+            return Optional.absent();
+        }
+    }
+
+    private void writeMetadata(File file, Properties metadata) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metadata.store(out, "springfox documentation snapshot");
+        writeAtomically(file, out.toByteArray());
+    }
+
+    private void writeAtomically(File file, byte[] content) throws IOException {
+        File temporary = new File(file.getPath() + ".tmp");
+        Files.write(content, temporary);
+        Files.move(temporary, file);
+    }
+
+    private File contentFile(String groupName, String format) {
+        return new File(snapshotDirectory, fileName(groupName, format));
+    }
+
+    private File metadataFile(String groupName, String format) {
+        return new File(snapshotDirectory, String.format("%s.%s.properties", encode(groupName), encode(format)));
+    }
+
+    private static String typeName(Object instance) {
+        return instance == null ? null : instance.getClass().getName();
+    }
+
+    static String fileName(String groupName, String format) {
+        return String.format("%s.%s.json", encode(groupName), encode(format));
+    }
+
+    static String indexFileName(String groupName) {
+        return String.format("%s.formats", encode(groupName));
+    }
+
+    private static String key(String groupName, String format) {
+        return groupName + "/" + format;
+    }
+
+    private static String encode(String name) {
+        try {
+            return URLEncoder.encode(name, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decode(String name) {
+        try {
+            return URLDecoder.decode(name, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void put(Hasher hasher, String value) {
+        hasher.putString(nullToEmpty(value), UTF_8).putChar('\u0000');
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import springfox.documentation.service.Documentation;
+
+import java.util.Map;
+
+/**
+ * Serializes the documentation of a group in the formats served by one of the documentation endpoints, so that it
+ * can be kept as a snapshot or precomputed at build time.
+ */
+public interface DocumentationWriter {
+
+    /**
+     * @param documentation - the documentation of a group
+     * @return the serialized documentation keyed by format, see {@link DocumentationSnapshots#read(String, String)}
+     */
+    Map<String, byte[]> write(Documentation documentation);
+}
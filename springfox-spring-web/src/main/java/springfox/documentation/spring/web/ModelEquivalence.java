@@ -0,0 +1,68 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Objects;
+import springfox.documentation.schema.Model;
+import springfox.documentation.schema.ModelProperty;
+
+import java.util.Map;
+
+/**
+ * Structural equivalence of models, i.e. models with the same identity, attributes and equivalent properties.
+ */
+public class ModelEquivalence extends Equivalence<Model> {
+    private final Equivalence<ModelProperty> properties = new ModelPropertyEquivalence();
+
+    @Override
+    protected boolean doEquivalent(Model first, Model second) {
+        return Objects.equal(first.getId(), second.getId())
+                && Objects.equal(first.getName(), second.getName())
+                && Objects.equal(first.getType(), second.getType())
+                && Objects.equal(first.getQualifiedType(), second.getQualifiedType())
+                && Objects.equal(first.getDescription(), second.getDescription())
+                && Objects.equal(first.getBaseModel(), second.getBaseModel())
+                && Objects.equal(first.getDiscriminator(), second.getDiscriminator())
+                && Objects.equal(first.getSubTypes(), second.getSubTypes())
+                && Objects.equal(first.getExample(), second.getExample())
+                && equivalent(first.getProperties(), second.getProperties());
+    }
+
+    @Override
+    protected int doHash(Model model) {
+        return Objects.hashCode(model.getId(), model.getName(), model.getType(), model.getQualifiedType());
+    }
+
+    private boolean equivalent(Map<String, ModelProperty> first, Map<String, ModelProperty> second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        if (!first.keySet().equals(second.keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, ModelProperty> each : first.entrySet()) {
+            if (!properties.equivalent(each.getValue(), second.get(each.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
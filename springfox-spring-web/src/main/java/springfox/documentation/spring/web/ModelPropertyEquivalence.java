@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Objects;
+import springfox.documentation.schema.ModelProperty;
+import springfox.documentation.schema.ModelReference;
+
+import static springfox.documentation.spring.web.ModelReferenceEquivalence.allowableValuesEquivalent;
+
+/**
+ * Structural equivalence of model properties, i.e. properties that document the same thing the same way.
+ */
+public class ModelPropertyEquivalence extends Equivalence<ModelProperty> {
+    private final Equivalence<ModelReference> referenceEquivalence = new ModelReferenceEquivalence();
+
+    @Override
+    protected boolean doEquivalent(ModelProperty first, ModelProperty second) {
+        return Objects.equal(first.getName(), second.getName())
+                && Objects.equal(first.getType(), second.getType())
+                && Objects.equal(first.getQualifiedType(), second.getQualifiedType())
+                && first.getPosition() == second.getPosition()
+                && Objects.equal(first.isRequired(), second.isRequired())
+                && first.isHidden() == second.isHidden()
+                && Objects.equal(first.isReadOnly(), second.isReadOnly())
+                && Objects.equal(first.getDescription(), second.getDescription())
+                && Objects.equal(first.getExample(), second.getExample())
+                && allowableValuesEquivalent(first.getAllowableValues(), second.getAllowableValues())
+                && referenceEquivalence.equivalent(first.getModelRef(), second.getModelRef());
+    }
+
+    @Override
+    protected int doHash(ModelProperty property) {
+        return Objects.hashCode(property.getName(), property.getType(), property.getQualifiedType(),
+                property.getPosition(), property.getDescription());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import springfox.documentation.schema.ModelReference;
+import springfox.documentation.service.AllowableListValues;
+import springfox.documentation.service.AllowableRangeValues;
+import springfox.documentation.service.AllowableValues;
+
+/**
+ * Structural equivalence of model references, including the references of their items.
+ */
+public class ModelReferenceEquivalence extends Equivalence<ModelReference> {
+
+    @Override
+    protected boolean doEquivalent(ModelReference first, ModelReference second) {
+        return Objects.equal(first.getType(), second.getType())
+                && first.isCollection() == second.isCollection()
+                && first.isMap() == second.isMap()
+                && Objects.equal(first.getItemType(), second.getItemType())
+                && allowableValuesEquivalent(first.getAllowableValues(), second.getAllowableValues())
+                && itemModelsEquivalent(first.itemModel(), second.itemModel());
+    }
+
+    @Override
+    protected int doHash(ModelReference reference) {
+        return Objects.hashCode(reference.getType(), reference.isCollection(), reference.isMap(),
+                reference.getItemType());
+    }
+
+    private boolean itemModelsEquivalent(Optional<ModelReference> first, Optional<ModelReference> second) {
+        if (first.isPresent() && second.isPresent()) {
+            return equivalent(first.get(), second.get());
+        }
+        return first.isPresent() == second.isPresent();
+    }
+
+    static boolean allowableValuesEquivalent(AllowableValues first, AllowableValues second) {
+        if (first == null || second == null) {
+            return first == second;
+        }
+        if (first instanceof AllowableListValues && second instanceof AllowableListValues) {
+            return Objects.equal(((AllowableListValues) first).getValues(), ((AllowableListValues) second).getValues())
+                    && Objects.equal(((AllowableListValues) first).getValueType(),
+                    ((AllowableListValues) second).getValueType());
+        }
+        if (first instanceof AllowableRangeValues && second instanceof AllowableRangeValues) {
+            return Objects.equal(((AllowableRangeValues) first).getMin(), ((AllowableRangeValues) second).getMin())
+                    && Objects.equal(((AllowableRangeValues) first).getMax(), ((AllowableRangeValues) second).getMax());
+        }
+        return first == second;
+    }
+}
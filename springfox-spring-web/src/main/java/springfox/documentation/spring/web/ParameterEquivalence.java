@@ -0,0 +1,54 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Objects;
+import springfox.documentation.schema.ModelReference;
+import springfox.documentation.service.Parameter;
+
+import static springfox.documentation.spring.web.ModelReferenceEquivalence.allowableValuesEquivalent;
+
+/**
+ * Structural equivalence of operation parameters, i.e. parameters that document the same thing the same way.
+ */
+public class ParameterEquivalence extends Equivalence<Parameter> {
+    private final Equivalence<ModelReference> referenceEquivalence = new ModelReferenceEquivalence();
+
+    @Override
+    protected boolean doEquivalent(Parameter first, Parameter second) {
+        return Objects.equal(first.getName(), second.getName())
+                && Objects.equal(first.getDescription(), second.getDescription())
+                && Objects.equal(first.getDefaultValue(), second.getDefaultValue())
+                && Objects.equal(first.isRequired(), second.isRequired())
+                && Objects.equal(first.isAllowMultiple(), second.isAllowMultiple())
+                && Objects.equal(first.getType(), second.getType())
+                && Objects.equal(first.getParamType(), second.getParamType())
+                && Objects.equal(first.getParamAccess(), second.getParamAccess())
+                && allowableValuesEquivalent(first.getAllowableValues(), second.getAllowableValues())
+                && referenceEquivalence.equivalent(first.getModelRef(), second.getModelRef());
+    }
+
+    @Override
+    protected int doHash(Parameter parameter) {
+        return Objects.hashCode(parameter.getName(), parameter.getParamType(), parameter.getDescription(),
+                parameter.getType());
+    }
+}
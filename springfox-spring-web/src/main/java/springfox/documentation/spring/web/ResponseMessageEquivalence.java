@@ -0,0 +1,45 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Equivalence;
+import com.google.common.base.Objects;
+import springfox.documentation.schema.ModelReference;
+import springfox.documentation.service.ResponseMessage;
+
+/**
+ * Structural equivalence of response messages. Unlike {@link ResponseMessage#equals(Object)}, which only compares
+ * the status codes, the message and the response model are compared as well.
+ */
+public class ResponseMessageEquivalence extends Equivalence<ResponseMessage> {
+    private final Equivalence<ModelReference> referenceEquivalence = new ModelReferenceEquivalence();
+
+    @Override
+    protected boolean doEquivalent(ResponseMessage first, ResponseMessage second) {
+        return first.getCode() == second.getCode()
+                && Objects.equal(first.getMessage(), second.getMessage())
+                && referenceEquivalence.equivalent(first.getResponseModel(), second.getResponseModel());
+    }
+
+    @Override
+    protected int doHash(ResponseMessage message) {
+        return Objects.hashCode(message.getCode(), message.getMessage());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Supplier;
+import com.google.common.hash.Hashing;
+import springfox.documentation.spring.web.json.Json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Suppliers.memoize;
+
+/**
+ * Documentation serialized for a response, together with a strong ETag derived from its content. The gzip compressed
+ * form is computed once, the first time it is requested, and carries an ETag of its own.
+ */
+public class SerializedDocumentation {
+    private final Json json;
+    private final String eTag;
+    private final String gzippedETag;
+    private final Supplier<byte[]> gzipped;
+
+    public SerializedDocumentation(Json json) {
+        this.json = new Json(json.value());
+        String hash = Hashing.sha1().hashString(this.json.value(), UTF_8).toString();
+        this.eTag = String.format("\"%s\"", hash);
+        this.gzippedETag = String.format("\"%s-gzip\"", hash);
+        this.gzipped = memoize(new Supplier<byte[]>() {
+            @Override
+            public byte[] get() {
+                return gzip(SerializedDocumentation.this.json.value());
+            }
+        });
+    }
+
+    public Json getJson() {
+        return json;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public byte[] getGzipped() {
+        return gzipped.get();
+    }
+
+    public String getGzippedETag() {
+        return gzippedETag;
+    }
+
+    private static byte[] gzip(String value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            GZIPOutputStream out = new GZIPOutputStream(bytes);
+            out.write(value.getBytes(UTF_8));
+            out.close();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to compress the documentation", e);
+        }
+    }
+}
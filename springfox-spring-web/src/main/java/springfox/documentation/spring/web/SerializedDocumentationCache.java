@@ -0,0 +1,85 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import springfox.documentation.spring.web.json.Json;
+
+/**
+ * Keeps the documentation serialized by the documentation endpoints, keyed by the group and whatever else the
+ * serialized form depends on, e.g. the host the documentation was requested for. The number of entries is bounded by
+ * the springfox.documentation.response-cache.size property and all the entries are dropped whenever the
+ * {@link DocumentationCache} changes. A size of 0 disables the cache.
+ */
+public class SerializedDocumentationCache {
+    private final DocumentationCache documentationCache;
+    private final Cache<String, SerializedDocumentation> cache;
+    private final boolean enabled;
+    private int generation;
+
+    public SerializedDocumentationCache(DocumentationCache documentationCache, int maximumSize) {
+        this.documentationCache = documentationCache;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.enabled = maximumSize > 0;
+        this.generation = documentationCache.generation();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param key       - identifies the serialized documentation
+     * @param serialize - serializes the documentation when it is not cached, returns absent if there is none
+     * @return the cached or freshly serialized documentation
+     */
+    public Optional<SerializedDocumentation> get(String key, Supplier<Optional<Json>> serialize) {
+        int current = currentGeneration();
+        SerializedDocumentation cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Json> json = serialize.get();
+        if (!json.isPresent()) {
+            return Optional.absent();
+        }
+        SerializedDocumentation serialized = new SerializedDocumentation(json.get());
+        synchronized (this) {
+            if (current == generation && current == documentationCache.generation()) {
+                cache.put(key, serialized);
+            }
+        }
+        return Optional.of(serialized);
+    }
+
+    private synchronized int currentGeneration() {
+        int current = documentationCache.generation();
+        if (current != generation) {
+            cache.invalidateAll();
+            generation = current;
+        }
+        return current;
+    }
+}
@@ -19,17 +19,23 @@
 
 package springfox.documentation.spring.web;
 
+import com.fasterxml.classmate.TypeResolver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.plugin.core.config.EnablePluginRegistries;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.schema.configuration.ModelsConfiguration;
+import springfox.documentation.schema.property.MemberResolutionCache;
 import springfox.documentation.service.PathDecorator;
 import springfox.documentation.spi.service.*;
 import springfox.documentation.spi.service.contexts.Defaults;
 import springfox.documentation.spring.web.json.JacksonModuleRegistrar;
 import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.spring.web.readers.operation.HandlerMethodResolutionCache;
+import springfox.documentation.spring.web.readers.operation.HandlerMethodResolver;
 
 import java.util.List;
 
@@ -64,6 +70,30 @@ public class SpringfoxWebMvcConfiguration {
         return new DocumentationCache();
     }
 
+    @Bean
+    public SerializedDocumentationCache serializedDocumentationCache(
+            DocumentationCache documentationCache,
+            @Value("${springfox.documentation.response-cache.size:0}") int size) {
+        return new SerializedDocumentationCache(documentationCache, size);
+    }
+
+    @Bean
+    public DocumentationSnapshots documentationSnapshots() {
+        return new DocumentationSnapshots();
+    }
+
+    @Bean
+    public HandlerMethodResolutionCache handlerMethodResolutionCache(CacheRegistry caches) {
+        return new HandlerMethodResolutionCache(caches);
+    }
+
+    @Bean
+    public HandlerMethodResolver handlerMethodResolver(TypeResolver typeResolver,
+                                                       MemberResolutionCache memberResolutionCache,
+                                                       HandlerMethodResolutionCache handlerMethodResolutionCache) {
+        return new HandlerMethodResolver(typeResolver, memberResolutionCache, handlerMethodResolutionCache);
+    }
+
     @Bean
     public static ObjectMapperConfigurer objectMapperConfigurer() {
         return new ObjectMapperConfigurer();
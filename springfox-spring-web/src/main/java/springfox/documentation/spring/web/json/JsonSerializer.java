@@ -40,4 +40,14 @@ public class JsonSerializer {
             throw new RuntimeException("Could not write JSON", e);
         }
     }
+
+    /**
+     * Defers the serialization until the json is written, see {@link StreamingJson}
+     *
+     * @param toSerialize - the object to serialize
+     * @return json that is streamed when it is written
+     */
+    public Json toStreamingJson(Object toSerialize) {
+        return new StreamingJson(objectMapper, toSerialize);
+    }
 }
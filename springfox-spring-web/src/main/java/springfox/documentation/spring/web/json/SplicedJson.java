@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * Json that is spliced together from a prefix, a value and a suffix that are already serialized. The parts are
+ * written one after the other, so the same prefix and suffix can be served with different values without copying
+ * them into a new document for every response.
+ */
+@JsonSerialize(using = SplicedJson.Writer.class)
+public class SplicedJson extends Json {
+    private final String prefix;
+    private final String splice;
+    private final String suffix;
+
+    public SplicedJson(String prefix, String splice, String suffix) {
+        super(null);
+        this.prefix = prefix;
+        this.splice = splice;
+        this.suffix = suffix;
+    }
+
+    /**
+     * @return the spliced value, which is materialized on every call
+     */
+    @Override
+    public String value() {
+        return new StringBuilder(prefix.length() + splice.length() + suffix.length())
+                .append(prefix)
+                .append(splice)
+                .append(suffix)
+                .toString();
+    }
+
+    public void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeRawValue(prefix);
+        generator.writeRaw(splice);
+        generator.writeRaw(suffix);
+    }
+
+    public static class Writer extends com.fasterxml.jackson.databind.JsonSerializer<SplicedJson> {
+        @Override
+        public void serialize(SplicedJson value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            value.writeTo(generator);
+        }
+    }
+}
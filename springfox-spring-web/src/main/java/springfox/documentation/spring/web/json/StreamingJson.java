@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+
+/**
+ * Json that is only serialized when it is written. When a response is written by a jackson message converter the
+ * documentation is streamed straight into the converter's generator, i.e. to the servlet output stream, without
+ * materializing the whole document as a string first.
+ */
+@JsonSerialize(using = StreamingJson.Writer.class)
+public class StreamingJson extends Json {
+    private final ObjectMapper objectMapper;
+    private final Object toSerialize;
+
+    StreamingJson(ObjectMapper objectMapper, Object toSerialize) {
+        super(null);
+        this.objectMapper = objectMapper;
+        this.toSerialize = toSerialize;
+    }
+
+    /**
+     * @return the serialized value, which is materialized on every call
+     */
+    @Override
+    public String value() {
+        try {
+            return objectMapper.writeValueAsString(toSerialize);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not write JSON", e);
+        }
+    }
+
+    public void writeTo(JsonGenerator generator) throws IOException {
+        objectMapper.writeValue(generator, toSerialize);
+    }
+
+    public static class Writer extends com.fasterxml.jackson.databind.JsonSerializer<StreamingJson> {
+        @Override
+        public void serialize(StreamingJson value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            value.writeTo(generator);
+        }
+    }
+}
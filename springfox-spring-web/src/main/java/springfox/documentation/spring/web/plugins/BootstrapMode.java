@@ -0,0 +1,71 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.plugins;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides how the documentation groups are bootstrapped from the springfox.documentation.bootstrap properties, see
+ * {@link DocumentationPluginsBootstrapper}.
+ */
+@Component
+public class BootstrapMode {
+    @Value("${springfox.documentation.bootstrap.parallelism:1}")
+    private int parallelism;
+
+    @Value("${springfox.documentation.bootstrap.lazy:false}")
+    private boolean lazy;
+
+    @Value("${springfox.documentation.bootstrap.async:false}")
+    private boolean async;
+
+    /**
+     * @return the number of threads the documentation groups are scanned with
+     */
+    public int getParallelism() {
+        return Math.max(parallelism, 1);
+    }
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Lazy bootstrapping takes precedence over asynchronous bootstrapping, there is nothing left to scan in the
+     * background once every group is registered to be scanned on first access.
+     *
+     * @return true if the documentation groups are scanned on a background thread
+     */
+    public boolean isAsync() {
+        return async && !lazy;
+    }
+
+    /**
+     * @return true if asynchronous bootstrapping was asked for but is overridden by lazy bootstrapping
+     */
+    boolean isAsyncIgnored() {
+        return async && lazy;
+    }
+}
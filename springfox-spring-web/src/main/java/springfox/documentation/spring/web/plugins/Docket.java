@@ -44,6 +44,7 @@ import java.util.Set;
 import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Lists.newArrayList;
 import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
 import static com.google.common.collect.Sets.newHashSet;
 import static springfox.documentation.builders.BuilderDefaults.defaultIfAbsent;
 import static springfox.documentation.builders.BuilderDefaults.nullToEmptyList;
@@ -79,6 +80,7 @@ public class Docket implements DocumentationPlugin {
     private Optional<String> pathMapping = Optional.absent();
     private ApiSelector apiSelector = ApiSelector.DEFAULT;
     private boolean enableUrlTemplating = false;
+    private final Map<String, String> cacheSpecifications = newLinkedHashMap();
 
     public Docket(DocumentationType documentationType) {
         this.documentationType = documentationType;
@@ -387,6 +389,21 @@ public class Docket implements DocumentationPlugin {
         return this;
     }
 
+    /**
+     * Configures one of the caches used while scanning the documentation, e.g. models or operations. The caches are
+     * shared by all the dockets, so the first docket to configure a cache wins, and a
+     * springfox.documentation.cache.&lt;name&gt;.spec or .enabled property takes precedence over the dockets.
+     *
+     * @param cacheName     - the name of the cache
+     * @param specification - a guava cache specification, e.g. maximumSize=100,expireAfterWrite=1h
+     * @return this Docket
+     */
+    @Incubating("2.3")
+    public Docket cacheSpecification(String cacheName, String specification) {
+        this.cacheSpecifications.put(cacheName, specification);
+        return this;
+    }
+
     Docket selector(ApiSelector apiSelector) {
         this.apiSelector = apiSelector;
         return this;
@@ -432,6 +449,7 @@ public class Docket implements DocumentationPlugin {
                 .genericsNaming(genericsNamingStrategy)
                 .pathMapping(pathMapping)
                 .enableUrlTemplating(enableUrlTemplating)
+                .cacheSpecifications(cacheSpecifications)
                 .build();
     }
 
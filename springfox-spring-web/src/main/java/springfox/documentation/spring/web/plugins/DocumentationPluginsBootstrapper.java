@@ -20,12 +20,21 @@
 package springfox.documentation.spring.web.plugins;
 
 import com.fasterxml.classmate.TypeResolver;
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.CacheRegistry;
+import springfox.documentation.schema.configuration.PluginTimings;
+import springfox.documentation.service.Documentation;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.service.DocumentationPlugin;
 import springfox.documentation.spi.service.RequestHandlerProvider;
@@ -33,12 +42,25 @@ import springfox.documentation.spi.service.contexts.Defaults;
 import springfox.documentation.spi.service.contexts.DocumentationContext;
 import springfox.documentation.spi.service.contexts.DocumentationContextBuilder;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationSnapshots;
 import springfox.documentation.spring.web.scanners.ApiDocumentationScanner;
+import springfox.documentation.spring.web.scanners.OperationReadingOrder;
 
 import javax.servlet.ServletContext;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.google.common.base.Throwables.propagate;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newLinkedHashSet;
+import static com.google.common.util.concurrent.Futures.allAsList;
+import static com.google.common.util.concurrent.Futures.getUnchecked;
+import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static springfox.documentation.spi.service.contexts.Orderings.pluginOrdering;
 
 /**
@@ -46,6 +68,32 @@ import static springfox.documentation.spi.service.contexts.Orderings.pluginOrder
  * application context.
  * <p/>
  * If no instances DocumentationConfigurer are found a default one is created and executed.
+ * <p/>
+ * By default the documentation groups are scanned one after another. Setting the
+ * springfox.documentation.bootstrap.parallelism property to a value greater than 1 scans the groups concurrently
+ * using up to that many threads. The scanned documentation is always published in plugin order. Operation ids are
+ * made unique across the groups in the order in which the operations are read, so the groups still read their
+ * operations in plugin order, see {@link OperationReadingOrder}, and the output does not depend on the number of
+ * threads.
+ * <p/>
+ * Setting the springfox.documentation.bootstrap.lazy property to true defers the scanning of each group until its
+ * documentation is first requested. For the same reason, scanning a group first scans the groups that come before it
+ * in plugin order. Lazy bootstrapping takes precedence over asynchronous bootstrapping.
+ * <p/>
+ * Setting the springfox.documentation.bootstrap.async property to true scans the groups on a background thread so
+ * that the context refresh is not held up. Until the scan completes the {@link DocumentationCache} reports that the
+ * documentation is not ready, see {@link DocumentationCache#whenReady()}.
+ * <p/>
+ * The bootstrap properties are read by {@link BootstrapMode}, which the readers share.
+ * <p/>
+ * Setting the springfox.documentation.bootstrap.snapshot-dir property keeps snapshots of the serialized documentation
+ * in that directory. Groups with a valid snapshot are not scanned at startup but only when their documentation is
+ * first requested in a form that is not covered by the snapshot, see {@link DocumentationSnapshots}. A group that
+ * comes before a group that has to be scanned is scanned as well.
+ * <p/>
+ * The cache specifications of the dockets are applied to the {@link CacheRegistry} before any group is scanned.
+ * The statistics of the scanning caches are published to the {@link CacheRegistry} listeners after each scan, and so
+ * are the plugin timings when they are recorded, see {@link PluginTimings}.
  */
 @Component
 public class DocumentationPluginsBootstrapper implements ApplicationListener<ContextRefreshedEvent> {
@@ -53,8 +101,13 @@ public class DocumentationPluginsBootstrapper implements ApplicationListener<Con
     private final DocumentationPluginsManager documentationPluginsManager;
     private final RequestHandlerProvider handlerProvider;
     private final DocumentationCache scanned;
+    private final DocumentationSnapshots snapshots;
+    private final CacheRegistry caches;
+    private final PluginTimings timings;
     private final ApiDocumentationScanner resourceListing;
     private final DefaultConfiguration defaultConfiguration;
+    private final BootstrapMode mode;
+    private final OperationReadingOrder readingOrder;
 
     private AtomicBoolean initialized = new AtomicBoolean(false);
 
@@ -62,35 +115,104 @@ public class DocumentationPluginsBootstrapper implements ApplicationListener<Con
     public DocumentationPluginsBootstrapper(DocumentationPluginsManager documentationPluginsManager,
                                             RequestHandlerProvider handlerProvider,
                                             DocumentationCache scanned,
+                                            DocumentationSnapshots snapshots,
+                                            CacheRegistry caches,
+                                            PluginTimings timings,
                                             ApiDocumentationScanner resourceListing,
                                             TypeResolver typeResolver,
                                             Defaults defaults,
-                                            ServletContext servletContext) {
+                                            ServletContext servletContext,
+                                            BootstrapMode mode,
+                                            OperationReadingOrder readingOrder) {
 
         this.documentationPluginsManager = documentationPluginsManager;
         this.handlerProvider = handlerProvider;
         this.scanned = scanned;
+        this.snapshots = snapshots;
+        this.caches = caches;
+        this.timings = timings;
         this.resourceListing = resourceListing;
         this.defaultConfiguration = new DefaultConfiguration(defaults, typeResolver, servletContext);
+        this.mode = mode;
+        this.readingOrder = readingOrder;
     }
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent contextRefreshedEvent) {
         if (initialized.compareAndSet(false, true)) {
             log.info("Context refreshed");
-            List<DocumentationPlugin> plugins = pluginOrdering()
-                    .sortedCopy(documentationPluginsManager.documentationPlugins());
-            log.info("Found {} custom documentation plugin(s)", plugins.size());
-            for (DocumentationPlugin each : plugins) {
-                DocumentationType documentationType = each.getDocumentationType();
-                if (each.isEnabled()) {
-                    scanDocumentation(buildContext(each));
-                } else {
-                    log.info("Skipping initializing disabled plugin bean {} v{}",
-                            documentationType.getName(), documentationType.getVersion());
+            if (mode.isAsyncIgnored()) {
+                log.warn("Ignoring springfox.documentation.bootstrap.async, the documentation groups are scanned "
+                        + "lazily on first access instead");
+            }
+            if (mode.isAsync()) {
+                bootstrapInBackground();
+            } else {
+                bootstrap();
+            }
+        }
+    }
+
+    private void bootstrap() {
+        List<DocumentationPlugin> plugins = pluginOrdering()
+                .sortedCopy(documentationPluginsManager.documentationPlugins());
+        log.info("Found {} custom documentation plugin(s)", plugins.size());
+        List<DocumentationContext> contexts = newArrayList();
+        for (DocumentationPlugin each : plugins) {
+            DocumentationType documentationType = each.getDocumentationType();
+            if (each.isEnabled()) {
+                DocumentationContext context = buildContext(each);
+                caches.configure(context.getGroupName(), context.getCacheSpecifications());
+                contexts.add(context);
+            } else {
+                log.info("Skipping initializing disabled plugin bean {} v{}",
+                        documentationType.getName(), documentationType.getVersion());
+            }
+        }
+        readingOrder.groups(groupNames(contexts));
+        if (mode.isLazy()) {
+            for (DocumentationContext each : contexts) {
+                snapshots.restore(each);
+                scanDocumentationLazily(each, contexts);
+            }
+        } else {
+            List<DocumentationContext> scanning = scannedAtStartup(contexts);
+            if (mode.isParallel() && scanning.size() > 1) {
+                scanDocumentationInParallel(scanning);
+            } else {
+                for (DocumentationContext each : scanning) {
+                    scanDocumentation(each);
                 }
             }
+            for (DocumentationContext each : contexts.subList(scanning.size(), contexts.size())) {
+                scanDocumentationLazily(each, contexts);
+            }
         }
+        caches.publishStatistics();
+        timings.publish();
+    }
+
+    private void bootstrapInBackground() {
+        final SettableFuture<Void> ready = SettableFuture.create();
+        scanned.scanning(ready);
+        ExecutorService executor = newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("springfox-bootstrap-async")
+                .setDaemon(true)
+                .build());
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    bootstrap();
+                    log.info("Documentation scanned in the background is ready");
+                    ready.set(null);
+                } catch (RuntimeException e) {
+                    log.error("Unable to scan the documentation in the background", e);
+                    ready.setException(e);
+                }
+            }
+        });
+        executor.shutdown();
     }
 
     private DocumentationContext buildContext(DocumentationPlugin each) {
@@ -101,6 +223,86 @@ public class DocumentationPluginsBootstrapper implements ApplicationListener<Con
         scanned.addDocumentation(resourceListing.scan(context));
     }
 
+    /**
+     * Restores the groups from their snapshots in plugin order. Since operation ids depend on the groups scanned
+     * before, a restored group is only left unscanned when no group after it has to be scanned.
+     *
+     * @return the groups to scan at startup
+     */
+    private List<DocumentationContext> scannedAtStartup(List<DocumentationContext> contexts) {
+        int scanning = 0;
+        for (int index = 0; index < contexts.size(); index++) {
+            if (!snapshots.restore(contexts.get(index))) {
+                scanning = index + 1;
+            }
+        }
+        return contexts.subList(0, scanning);
+    }
+
+    private void scanDocumentationLazily(final DocumentationContext context, List<DocumentationContext> contexts) {
+        log.info("Deferring the scan of documentation group {}", context.getGroupName());
+        int index = contexts.indexOf(context);
+        final Set<String> preceding = newLinkedHashSet(groupNames(contexts.subList(0, index)));
+        preceding.removeAll(groupNames(contexts.subList(index, contexts.size())));
+        scanned.addDocumentation(context.getGroupName(), new Supplier<Documentation>() {
+            @Override
+            public Documentation get() {
+                for (String each : preceding) {
+                    scanned.documentationByGroup(each);
+                }
+                log.info("Scanning documentation group {}", context.getGroupName());
+                Documentation documentation = resourceListing.scan(context);
+                caches.publishStatistics();
+                timings.publish();
+                return documentation;
+            }
+        });
+    }
+
+    private void scanDocumentationInParallel(List<DocumentationContext> contexts) {
+        int threads = Math.min(mode.getParallelism(), contexts.size());
+        log.info("Scanning {} documentation group(s) using {} thread(s)", contexts.size(), threads);
+        ListeningExecutorService executor = listeningDecorator(newFixedThreadPool(threads,
+                new ThreadFactoryBuilder()
+                        .setNameFormat("springfox-bootstrap-%d")
+                        .setDaemon(true)
+                        .build()));
+        try {
+            List<ListenableFuture<Documentation>> scans = newArrayList();
+            for (DocumentationContext each : contexts) {
+                scans.add(executor.submit(scanTask(each)));
+            }
+            for (Documentation each : getUnchecked(allAsList(scans))) {
+                scanned.addDocumentation(each);
+            }
+        } catch (UncheckedExecutionException e) {
+            throw propagate(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<Documentation> scanTask(final DocumentationContext context) {
+        return new Callable<Documentation>() {
+            @Override
+            public Documentation call() throws Exception {
+                try {
+                    return resourceListing.scan(context);
+                } finally {
+                    readingOrder.read(context.getGroupName());
+                }
+            }
+        };
+    }
+
+    private List<String> groupNames(List<DocumentationContext> contexts) {
+        List<String> groupNames = newArrayList();
+        for (DocumentationContext each : contexts) {
+            groupNames.add(each.getGroupName());
+        }
+        return groupNames;
+    }
+
     private DocumentationContextBuilder defaultContextBuilder(DocumentationPlugin each) {
         DocumentationType documentationType = each.getDocumentationType();
         return documentationPluginsManager
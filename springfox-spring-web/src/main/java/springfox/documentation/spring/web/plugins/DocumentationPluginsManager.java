@@ -24,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.PluginTimings;
+import springfox.documentation.schema.plugins.PluginPipelines;
 import springfox.documentation.service.ApiListing;
 import springfox.documentation.service.Operation;
 import springfox.documentation.service.Parameter;
@@ -37,7 +39,6 @@ import springfox.documentation.spring.web.SpringGroupingStrategy;
 import java.util.List;
 import java.util.Set;
 
-import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Lists.newArrayList;
 import static springfox.documentation.spring.web.plugins.DuplicateGroupsDetector.ensureNoDuplicateGroups;
 
@@ -70,6 +71,31 @@ public class DocumentationPluginsManager {
     @Autowired
     @Qualifier("pathDecoratorRegistry")
     private PluginRegistry<PathDecorator, DocumentationContext> pathDecorators;
+    private final PluginTimings timings;
+
+    private final PluginPipelines<ParameterBuilderPlugin, DocumentationType> parameterPipelines
+            = new PluginPipelines<ParameterBuilderPlugin, DocumentationType>();
+    private final PluginPipelines<ExpandedParameterBuilderPlugin, DocumentationType> parameterExpanderPipelines
+            = new PluginPipelines<ExpandedParameterBuilderPlugin, DocumentationType>();
+    private final PluginPipelines<OperationBuilderPlugin, DocumentationType> operationPipelines
+            = new PluginPipelines<OperationBuilderPlugin, DocumentationType>();
+    private final PluginPipelines<ApiListingBuilderPlugin, DocumentationType> apiListingPipelines
+            = new PluginPipelines<ApiListingBuilderPlugin, DocumentationType>();
+    private final PluginPipelines<OperationModelsProviderPlugin, DocumentationType> operationModelsPipelines
+            = new PluginPipelines<OperationModelsProviderPlugin, DocumentationType>();
+    private final PluginPipelines<ResourceGroupingStrategy, DocumentationType> resourceGroupingPipelines
+            = new PluginPipelines<ResourceGroupingStrategy, DocumentationType>();
+    private final PluginPipelines<PathDecorator, DocumentationContext> pathDecoratorPipelines
+            = new PluginPipelines<PathDecorator, DocumentationContext>();
+
+    public DocumentationPluginsManager() {
+        this(new PluginTimings());
+    }
+
+    @Autowired
+    public DocumentationPluginsManager(PluginTimings timings) {
+        this.timings = timings;
+    }
 
     public Iterable<DocumentationPlugin> documentationPlugins() throws IllegalStateException {
         List<DocumentationPlugin> plugins = documentationPlugins.getPlugins();
@@ -81,44 +107,65 @@ public class DocumentationPluginsManager {
     }
 
     public Parameter parameter(ParameterContext parameterContext) {
-        for (ParameterBuilderPlugin each : parameterPlugins.getPluginsFor(parameterContext.getDocumentationType())) {
-            each.apply(parameterContext);
+        List<ParameterBuilderPlugin> plugins
+                = parameterPipelines.pluginsFor(parameterPlugins, parameterContext.getDocumentationType());
+        for (int i = 0; i < plugins.size(); i++) {
+            long start = timings.start();
+            plugins.get(i).apply(parameterContext);
+            timings.record(plugins.get(i), parameterContext.getDocumentationType(), start);
         }
         return parameterContext.parameterBuilder().build();
     }
 
     public Parameter expandParameter(ParameterExpansionContext context) {
-        for (ExpandedParameterBuilderPlugin each : parameterExpanderPlugins.getPluginsFor(context.getDocumentationType())) {
-            each.apply(context);
+        List<ExpandedParameterBuilderPlugin> plugins
+                = parameterExpanderPipelines.pluginsFor(parameterExpanderPlugins, context.getDocumentationType());
+        for (int i = 0; i < plugins.size(); i++) {
+            long start = timings.start();
+            plugins.get(i).apply(context);
+            timings.record(plugins.get(i), context.getDocumentationType(), start);
         }
         return context.getParameterBuilder().build();
     }
 
     public Operation operation(OperationContext operationContext) {
-        for (OperationBuilderPlugin each : operationBuilderPlugins.getPluginsFor(operationContext.getDocumentationType())) {
-            each.apply(operationContext);
+        List<OperationBuilderPlugin> plugins
+                = operationPipelines.pluginsFor(operationBuilderPlugins, operationContext.getDocumentationType());
+        for (int i = 0; i < plugins.size(); i++) {
+            long start = timings.start();
+            plugins.get(i).apply(operationContext);
+            timings.record(plugins.get(i), operationContext.getDocumentationType(), start);
         }
         return operationContext.operationBuilder().build();
     }
 
 
     public ApiListing apiListing(ApiListingContext context) {
-        for (ApiListingBuilderPlugin each : apiListingPlugins.getPluginsFor(context.getDocumentationType())) {
-            each.apply(context);
+        List<ApiListingBuilderPlugin> plugins
+                = apiListingPipelines.pluginsFor(apiListingPlugins, context.getDocumentationType());
+        for (int i = 0; i < plugins.size(); i++) {
+            long start = timings.start();
+            plugins.get(i).apply(context);
+            timings.record(plugins.get(i), context.getDocumentationType(), start);
         }
         return context.apiListingBuilder().build();
     }
 
     public Set<ModelContext> modelContexts(RequestMappingContext context) {
         DocumentationType documentationType = context.getDocumentationContext().getDocumentationType();
-        for (OperationModelsProviderPlugin each : operationModelsProviders.getPluginsFor(documentationType)) {
-            each.apply(context);
+        List<OperationModelsProviderPlugin> plugins
+                = operationModelsPipelines.pluginsFor(operationModelsProviders, documentationType);
+        for (int i = 0; i < plugins.size(); i++) {
+            long start = timings.start();
+            plugins.get(i).apply(context);
+            timings.record(plugins.get(i), documentationType, start);
         }
         return context.operationModelsBuilder().build();
     }
 
     public ResourceGroupingStrategy resourceGroupingStrategy(DocumentationType documentationType) {
-        return resourceGroupingStrategies.getPluginFor(documentationType, new SpringGroupingStrategy());
+        return resourceGroupingPipelines.pluginFor(resourceGroupingStrategies, documentationType,
+                new SpringGroupingStrategy());
     }
 
     private DocumentationPlugin defaultDocumentationPlugin() {
@@ -133,12 +180,11 @@ public class DocumentationPluginsManager {
     }
 
     public Function<String, String> decorator(final PathContext context) {
+        List<PathDecorator> plugins = pathDecoratorPipelines.pluginsFor(pathDecorators, context.documentationContext());
+        final Function<String, String>[] decorators = toDecorators(plugins, context);
         return new Function<String, String>() {
             @Override
             public String apply(String input) {
-                Iterable<Function<String, String>> decorators
-                        = from(pathDecorators.getPluginsFor(context.documentationContext()))
-                        .transform(toDecorator(context));
                 for (Function<String, String> decorator : decorators) {
                     input = decorator.apply(input);
                 }
@@ -147,12 +193,12 @@ public class DocumentationPluginsManager {
         };
     }
 
-    private Function<? super PathDecorator, Function<String, String>> toDecorator(final PathContext context) {
-        return new Function<PathDecorator, Function<String, String>>() {
-            @Override
-            public Function<String, String> apply(PathDecorator input) {
-                return input.decorator(context);
-            }
-        };
+    @SuppressWarnings("unchecked")
+    private Function<String, String>[] toDecorators(List<PathDecorator> plugins, PathContext context) {
+        Function<String, String>[] decorators = new Function[plugins.size()];
+        for (int i = 0; i < decorators.length; i++) {
+            decorators[i] = plugins.get(i).decorator(context);
+        }
+        return decorators;
     }
 }
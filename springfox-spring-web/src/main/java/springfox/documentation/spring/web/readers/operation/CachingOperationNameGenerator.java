@@ -33,7 +33,7 @@ public class CachingOperationNameGenerator implements OperationNameGenerator {
     private Map<String, Integer> generated = newHashMap();
 
     @Override
-    public String startingWith(String prefix) {
+    public synchronized String startingWith(String prefix) {
         if (generated.containsKey(prefix)) {
             generated.put(prefix, generated.get(prefix) + 1);
             String nextUniqueOperationName = String.format("%s_%s", prefix, generated.get(prefix));
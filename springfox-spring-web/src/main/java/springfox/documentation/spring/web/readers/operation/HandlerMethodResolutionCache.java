@@ -0,0 +1,134 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.readers.operation;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.members.ResolvedMethod;
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import springfox.documentation.schema.configuration.CacheRegistry;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Throwables.propagate;
+
+/**
+ * Bounded cache of the handler methods resolved by {@link HandlerMethodResolver}, keyed by the method and the bean
+ * type it is invoked on. The operation and parameter readers share the resolver, and with it this cache, so that
+ * every handler method is only resolved once per scan. The cache is configured as the handler-methods cache of the
+ * {@link CacheRegistry}.
+ */
+public class HandlerMethodResolutionCache {
+    private final Cache<HandlerMethodKey, ResolvedHandlerMethod> cache;
+
+    public HandlerMethodResolutionCache() {
+        this(new CacheRegistry());
+    }
+
+    public HandlerMethodResolutionCache(CacheRegistry caches) {
+        cache = caches.build("handler-methods", new Weigher<HandlerMethodKey, ResolvedHandlerMethod>() {
+            @Override
+            public int weigh(HandlerMethodKey key, ResolvedHandlerMethod value) {
+                return value.getArgumentTypes().size() + 1;
+            }
+        });
+    }
+
+    ResolvedHandlerMethod resolve(Class hostClass, Method method, Callable<ResolvedHandlerMethod> resolution) {
+        try {
+            return cache.get(new HandlerMethodKey(hostClass, method), resolution);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (UncheckedExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * The resolved method of a handler together with its resolved argument and return types.
+     */
+    static class ResolvedHandlerMethod {
+        private final Optional<ResolvedMethod> method;
+        private final List<ResolvedType> argumentTypes;
+        private final ResolvedType returnType;
+
+        ResolvedHandlerMethod(Optional<ResolvedMethod> method, List<ResolvedType> argumentTypes,
+                              ResolvedType returnType) {
+            this.method = method;
+            this.argumentTypes = ImmutableList.copyOf(argumentTypes);
+            this.returnType = returnType;
+        }
+
+        Optional<ResolvedMethod> getMethod() {
+            return method;
+        }
+
+        List<ResolvedType> getArgumentTypes() {
+            return argumentTypes;
+        }
+
+        ResolvedType getReturnType() {
+            return returnType;
+        }
+    }
+
+    private static class HandlerMethodKey {
+        private final Class hostClass;
+        private final Method method;
+
+        HandlerMethodKey(Class hostClass, Method method) {
+            this.hostClass = hostClass;
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            HandlerMethodKey that = (HandlerMethodKey) o;
+            return hostClass.equals(that.hostClass) && method.equals(that.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(hostClass, method);
+        }
+    }
+}
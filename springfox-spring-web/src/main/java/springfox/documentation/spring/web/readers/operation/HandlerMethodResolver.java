@@ -19,7 +19,6 @@
 
 package springfox.documentation.spring.web.readers.operation;
 
-import com.fasterxml.classmate.MemberResolver;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.ResolvedTypeWithMembers;
 import com.fasterxml.classmate.TypeResolver;
@@ -30,12 +29,13 @@ import com.google.common.base.Optional;
 import com.google.common.base.Predicate;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
 import com.google.common.primitives.Ints;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.method.HandlerMethod;
+import springfox.documentation.schema.property.MemberResolutionCache;
 import springfox.documentation.service.ResolvedMethodParameter;
+import springfox.documentation.spring.web.readers.operation.HandlerMethodResolutionCache.ResolvedHandlerMethod;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -43,6 +43,7 @@ import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import static com.google.common.base.Optional.fromNullable;
 import static com.google.common.collect.Iterables.filter;
@@ -51,28 +52,65 @@ import static com.google.common.collect.Lists.newArrayList;
 public class HandlerMethodResolver {
 
     private final TypeResolver typeResolver;
+    private final MemberResolutionCache memberResolutionCache;
+    private final HandlerMethodResolutionCache handlerMethodResolutionCache;
 
     public HandlerMethodResolver(TypeResolver typeResolver) {
+        this(typeResolver, new MemberResolutionCache(typeResolver));
+    }
+
+    public HandlerMethodResolver(TypeResolver typeResolver, MemberResolutionCache memberResolutionCache) {
+        this(typeResolver, memberResolutionCache, new HandlerMethodResolutionCache());
+    }
+
+    public HandlerMethodResolver(TypeResolver typeResolver,
+                                 MemberResolutionCache memberResolutionCache,
+                                 HandlerMethodResolutionCache handlerMethodResolutionCache) {
         this.typeResolver = typeResolver;
+        this.memberResolutionCache = memberResolutionCache;
+        this.handlerMethodResolutionCache = handlerMethodResolutionCache;
     }
 
     public ResolvedType methodReturnType(HandlerMethod handlerMethod) {
-        return resolvedMethod(handlerMethod).transform(toReturnType(typeResolver)).or(typeResolver.resolve(Void.TYPE));
+        if (handlerMethod == null) {
+            return typeResolver.resolve(Void.TYPE);
+        }
+        return resolved(handlerMethod).getReturnType();
     }
 
     public Optional<ResolvedMethod> resolvedMethod(HandlerMethod handlerMethod) {
         if (handlerMethod == null) {
             return Optional.absent();
         }
-        Class hostClass = useType(handlerMethod.getBeanType())
+        return resolved(handlerMethod).getMethod();
+    }
+
+    private ResolvedHandlerMethod resolved(HandlerMethod handlerMethod) {
+        final Class hostClass = useType(handlerMethod.getBeanType())
                 .or(handlerMethod.getMethod().getDeclaringClass());
+        final Method method = handlerMethod.getMethod();
+        return handlerMethodResolutionCache.resolve(hostClass, method, new Callable<ResolvedHandlerMethod>() {
+            @Override
+            public ResolvedHandlerMethod call() {
+                return resolve(hostClass, method);
+            }
+        });
+    }
+
+    private ResolvedHandlerMethod resolve(Class hostClass, Method method) {
         ResolvedType beanType = typeResolver.resolve(hostClass);
-        MemberResolver resolver = new MemberResolver(typeResolver);
-        resolver.setIncludeLangObject(false);
-        ResolvedTypeWithMembers typeWithMembers = resolver.resolve(beanType, null, null);
+        ResolvedTypeWithMembers typeWithMembers = memberResolutionCache.resolve(beanType);
         Iterable<ResolvedMethod> filtered = filter(newArrayList(typeWithMembers.getMemberMethods()),
-                methodNamesAreSame(handlerMethod.getMethod()));
-        return resolveToMethodWithMaxResolvedTypes(filtered, handlerMethod.getMethod());
+                methodNamesAreSame(method));
+        Optional<ResolvedMethod> resolvedMethod = resolveToMethodWithMaxResolvedTypes(filtered, method);
+        List<ResolvedType> argumentTypes = newArrayList();
+        if (resolvedMethod.isPresent()) {
+            for (int i = 0; i < resolvedMethod.get().getArgumentCount(); i++) {
+                argumentTypes.add(resolvedMethod.get().getArgumentType(i));
+            }
+        }
+        return new ResolvedHandlerMethod(resolvedMethod, argumentTypes,
+                resolvedMethod.transform(toReturnType(typeResolver)).or(typeResolver.resolve(Void.TYPE)));
     }
 
     private static Function<ResolvedMethod, ResolvedType> toReturnType(final TypeResolver resolver) {
@@ -95,23 +133,16 @@ public class HandlerMethodResolver {
     }
 
     public List<ResolvedMethodParameter> methodParameters(final HandlerMethod methodToResolve) {
-        return resolvedMethod(methodToResolve)
-                .transform(toParameters(methodToResolve))
-                .or(Lists.<ResolvedMethodParameter>newArrayList());
-    }
-
-    private Function<ResolvedMethod, List<ResolvedMethodParameter>> toParameters(final HandlerMethod methodToResolve) {
-        return new Function<ResolvedMethod, List<ResolvedMethodParameter>>() {
-            @Override
-            public List<ResolvedMethodParameter> apply(ResolvedMethod input) {
-                List<ResolvedMethodParameter> parameters = newArrayList();
-                MethodParameter[] methodParameters = methodToResolve.getMethodParameters();
-                for (int i = 0; i < input.getArgumentCount(); i++) {
-                    parameters.add(new ResolvedMethodParameter(methodParameters[i], input.getArgumentType(i)));
-                }
-                return parameters;
-            }
-        };
+        List<ResolvedMethodParameter> parameters = newArrayList();
+        if (methodToResolve == null) {
+            return parameters;
+        }
+        List<ResolvedType> argumentTypes = resolved(methodToResolve).getArgumentTypes();
+        MethodParameter[] methodParameters = methodToResolve.getMethodParameters();
+        for (int i = 0; i < argumentTypes.size(); i++) {
+            parameters.add(new ResolvedMethodParameter(methodParameters[i], argumentTypes.get(i)));
+        }
+        return parameters;
     }
 
     @VisibleForTesting
@@ -46,11 +46,15 @@ import static springfox.documentation.schema.ResolvedTypes.resolvedTypeSignature
 public class OperationModelsProvider implements OperationModelsProviderPlugin {
 
     private static final Logger LOG = LoggerFactory.getLogger(OperationModelsProvider.class);
-    private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
 
-    @Autowired
     public OperationModelsProvider(TypeResolver typeResolver) {
-        this.typeResolver = typeResolver;
+        this(new HandlerMethodResolver(typeResolver));
+    }
+
+    @Autowired
+    public OperationModelsProvider(HandlerMethodResolver handlerMethodResolver) {
+        this.handlerMethodResolver = handlerMethodResolver;
     }
 
     @Override
@@ -65,7 +69,7 @@ public class OperationModelsProvider implements OperationModelsProviderPlugin {
     }
 
     private void collectFromReturnType(RequestMappingContext context) {
-        ResolvedType modelType = new HandlerMethodResolver(typeResolver).methodReturnType(context.getHandlerMethod());
+        ResolvedType modelType = handlerMethodResolver.methodReturnType(context.getHandlerMethod());
         modelType = context.alternateFor(modelType);
         LOG.debug("Adding return parameter of type {}", resolvedTypeSignature(modelType).or("<null>"));
         context.operationModelsBuilder().addReturn(modelType);
@@ -78,7 +82,6 @@ public class OperationModelsProvider implements OperationModelsProviderPlugin {
 
         LOG.debug("Reading parameters models for handlerMethod |{}|", handlerMethod.getMethod().getName());
 
-        HandlerMethodResolver handlerMethodResolver = new HandlerMethodResolver(typeResolver);
         List<ResolvedMethodParameter> parameterTypes = handlerMethodResolver.methodParameters(handlerMethod);
         for (ResolvedMethodParameter parameterType : parameterTypes) {
             Annotation[] parameterAnnotations = parameterType.getMethodParameter().getParameterAnnotations();
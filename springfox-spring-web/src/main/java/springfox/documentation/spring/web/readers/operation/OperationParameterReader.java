@@ -46,16 +46,21 @@ import static com.google.common.collect.Lists.newArrayList;
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class OperationParameterReader implements OperationBuilderPlugin {
-    private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
     private final ModelAttributeParameterExpander expander;
 
     @Autowired
     private DocumentationPluginsManager pluginsManager;
 
-    @Autowired
     public OperationParameterReader(TypeResolver typeResolver,
                                     ModelAttributeParameterExpander expander) {
-        this.typeResolver = typeResolver;
+        this(new HandlerMethodResolver(typeResolver), expander);
+    }
+
+    @Autowired
+    public OperationParameterReader(HandlerMethodResolver handlerMethodResolver,
+                                    ModelAttributeParameterExpander expander) {
+        this.handlerMethodResolver = handlerMethodResolver;
         this.expander = expander;
     }
 
@@ -72,7 +77,6 @@ public class OperationParameterReader implements OperationBuilderPlugin {
 
     protected List<Parameter> readParameters(final OperationContext context) {
         HandlerMethod handlerMethod = context.getHandlerMethod();
-        HandlerMethodResolver handlerMethodResolver = new HandlerMethodResolver(typeResolver);
 
         List<ResolvedMethodParameter> methodParameters = handlerMethodResolver.methodParameters(handlerMethod);
         List<Parameter> parameters = newArrayList();
@@ -40,20 +40,25 @@ import static springfox.documentation.schema.ResolvedTypes.modelRefFactory;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class OperationResponseClassReader implements OperationBuilderPlugin {
     private static Logger log = LoggerFactory.getLogger(OperationResponseClassReader.class);
-    private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
     private final TypeNameExtractor nameExtractor;
 
-    @Autowired
     public OperationResponseClassReader(TypeResolver typeResolver,
                                         TypeNameExtractor nameExtractor) {
-        this.typeResolver = typeResolver;
+        this(new HandlerMethodResolver(typeResolver), nameExtractor);
+    }
+
+    @Autowired
+    public OperationResponseClassReader(HandlerMethodResolver handlerMethodResolver,
+                                        TypeNameExtractor nameExtractor) {
+        this.handlerMethodResolver = handlerMethodResolver;
         this.nameExtractor = nameExtractor;
     }
 
     @Override
     public void apply(OperationContext context) {
         HandlerMethod handlerMethod = context.getHandlerMethod();
-        ResolvedType returnType = new HandlerMethodResolver(typeResolver).methodReturnType(handlerMethod);
+        ResolvedType returnType = handlerMethodResolver.methodReturnType(handlerMethod);
         returnType = context.alternateFor(returnType);
         ModelContext modelContext = ModelContext.returnValue(returnType, context.getDocumentationType(),
                 context.getAlternateTypeProvider(), context.getDocumentationContext().getGenericsNamingStrategy());
@@ -50,13 +50,18 @@ import static springfox.documentation.schema.Types.isVoid;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class ResponseMessagesReader implements OperationBuilderPlugin {
 
-    private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
     private final TypeNameExtractor typeNameExtractor;
 
-    @Autowired
     public ResponseMessagesReader(TypeResolver typeResolver,
                                   TypeNameExtractor typeNameExtractor) {
-        this.typeResolver = typeResolver;
+        this(new HandlerMethodResolver(typeResolver), typeNameExtractor);
+    }
+
+    @Autowired
+    public ResponseMessagesReader(HandlerMethodResolver handlerMethodResolver,
+                                  TypeNameExtractor typeNameExtractor) {
+        this.handlerMethodResolver = handlerMethodResolver;
         this.typeNameExtractor = typeNameExtractor;
     }
 
@@ -74,7 +79,7 @@ public class ResponseMessagesReader implements OperationBuilderPlugin {
 
     private void applyReturnTypeOverride(OperationContext context) {
 
-        ResolvedType returnType = new HandlerMethodResolver(typeResolver).methodReturnType(context.getHandlerMethod());
+        ResolvedType returnType = handlerMethodResolver.methodReturnType(context.getHandlerMethod());
         returnType = context.alternateFor(returnType);
         int httpStatusCode = httpStatusCode(context.getHandlerMethod());
         String message = message(context.getHandlerMethod());
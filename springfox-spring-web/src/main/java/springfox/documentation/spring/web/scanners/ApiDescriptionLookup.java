@@ -25,7 +25,7 @@ import springfox.documentation.service.ApiDescription;
 import java.lang.reflect.Method;
 import java.util.Map;
 
-import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newConcurrentMap;
 
 /**
  * Given a handler method this class serves to lookup the api description. The overall goal of this abstraction is to
@@ -34,7 +34,7 @@ import static com.google.common.collect.Maps.newHashMap;
 @Component
 @Incubating("2.2.0")
 public class ApiDescriptionLookup {
-    private Map<Method, ApiDescription> cache = newHashMap();
+    private Map<Method, ApiDescription> cache = newConcurrentMap();
 
     public void add(Method key, ApiDescription value) {
         cache.put(key, value);
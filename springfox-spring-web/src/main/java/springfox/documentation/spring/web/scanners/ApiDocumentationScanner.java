@@ -29,6 +29,7 @@ import org.springframework.stereotype.Component;
 import springfox.documentation.PathProvider;
 import springfox.documentation.builders.DocumentationBuilder;
 import springfox.documentation.builders.ResourceListingBuilder;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.service.*;
 import springfox.documentation.spi.service.contexts.DocumentationContext;
 import springfox.documentation.spring.web.paths.PathMappingAdjuster;
@@ -41,28 +42,67 @@ import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Sets.newTreeSet;
 import static springfox.documentation.service.Tags.toTags;
 import static springfox.documentation.spi.service.contexts.Orderings.listingReferencePathComparator;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.REFERENCE_SCANNING;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.RESOURCE_LISTING;
 
 @Component
 public class ApiDocumentationScanner {
 
     private ApiListingReferenceScanner apiListingReferenceScanner;
     private ApiListingScanner apiListingScanner;
+    private DocumentationCompactor compactor;
+    private ScanProfiler profiler;
 
-    @Autowired
     public ApiDocumentationScanner(
             ApiListingReferenceScanner apiListingReferenceScanner,
             ApiListingScanner apiListingScanner) {
+        this(apiListingReferenceScanner, apiListingScanner, new DocumentationCompactor(new CacheRegistry()));
+    }
+
+    public ApiDocumentationScanner(
+            ApiListingReferenceScanner apiListingReferenceScanner,
+            ApiListingScanner apiListingScanner,
+            DocumentationCompactor compactor) {
+        this(apiListingReferenceScanner, apiListingScanner, compactor, new ScanProfiler());
+    }
+
+    @Autowired
+    public ApiDocumentationScanner(
+            ApiListingReferenceScanner apiListingReferenceScanner,
+            ApiListingScanner apiListingScanner,
+            DocumentationCompactor compactor,
+            ScanProfiler profiler) {
 
         this.apiListingReferenceScanner = apiListingReferenceScanner;
         this.apiListingScanner = apiListingScanner;
+        this.compactor = compactor;
+        this.profiler = profiler;
     }
 
     public Documentation scan(DocumentationContext context) {
-        ApiListingReferenceScanResult result = apiListingReferenceScanner.scan(context);
+        ApiListingReferenceScanResult result;
+        ScanProfiler.Timer referenceScanning = profiler.start(context.getGroupName(), REFERENCE_SCANNING);
+        try {
+            result = apiListingReferenceScanner.scan(context);
+        } finally {
+            referenceScanning.stop();
+        }
         ApiListingScanningContext listingContext = new ApiListingScanningContext(context,
                 result.getResourceGroupRequestMappings());
 
         Multimap<String, ApiListing> apiListings = apiListingScanner.scan(listingContext);
+        Documentation documentation;
+        ScanProfiler.Timer resourceListingTimer = profiler.start(context.getGroupName(), RESOURCE_LISTING);
+        try {
+            documentation = documentation(context, apiListings);
+        } finally {
+            resourceListingTimer.stop();
+        }
+        profiler.publish();
+        return compactor.compact(documentation);
+    }
+
+    private Documentation documentation(DocumentationContext context, Multimap<String, ApiListing> apiListings) {
         DocumentationBuilder group = new DocumentationBuilder()
                 .name(context.getGroupName())
                 .apiListingsByResourceGroupName(apiListings)
@@ -24,11 +24,15 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.LinkedListMultimap;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import springfox.documentation.PathProvider;
 import springfox.documentation.builders.ApiListingBuilder;
 import springfox.documentation.schema.Model;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.service.*;
 import springfox.documentation.spi.service.contexts.ApiListingContext;
 import springfox.documentation.spi.service.contexts.DocumentationContext;
@@ -37,79 +41,243 @@ import springfox.documentation.spring.web.paths.PathMappingAdjuster;
 import springfox.documentation.spring.web.plugins.DocumentationPluginsManager;
 
 import java.util.*;
+import java.util.concurrent.Callable;
 
+import static com.google.common.base.Throwables.propagate;
 import static com.google.common.collect.FluentIterable.from;
 import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
+import static com.google.common.util.concurrent.Futures.getUnchecked;
 import static springfox.documentation.spi.service.contexts.Orderings.methodComparator;
 import static springfox.documentation.spi.service.contexts.Orderings.resourceGroupComparator;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.LISTING_ASSEMBLY;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.MODEL_MERGING;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.MODEL_READING;
+import static springfox.documentation.spring.web.scanners.ScanProfiler.OPERATION_READING;
 
+/**
+ * Scans the request mappings of each resource group into api listings.
+ * <p/>
+ * Setting the springfox.documentation.scan.parallelism property to a value greater than 1 reads the models of all
+ * the request mappings concurrently on the threads of the {@link ScanExecutor}. The models are merged in the same
+ * order as they are when scanning sequentially so the resulting api listings are identical. The api descriptions are
+ * deliberately read on the scanning thread, one request mapping after another, because operation ids are made
+ * unique in the order in which the operations are read. For the same reason the api descriptions of all the resource
+ * groups are read before any model is merged, in turn with the other documentation groups, see
+ * {@link OperationReadingOrder}.
+ * <p/>
+ * The models of an api listing are shared with the other documentation groups through {@link CanonicalModels} once
+ * the api listing plugins have run.
+ */
 @Component
 public class ApiListingScanner {
     private final ApiDescriptionReader apiDescriptionReader;
     private final ApiModelReader apiModelReader;
     private final DocumentationPluginsManager pluginsManager;
+    private final ScanProfiler profiler;
+    private final CanonicalModels canonicalModels;
+    private final ScanExecutor scanExecutor;
+    private final OperationReadingOrder readingOrder;
 
-    @Autowired
     public ApiListingScanner(ApiDescriptionReader apiDescriptionReader,
                              ApiModelReader apiModelReader,
                              DocumentationPluginsManager pluginsManager) {
+        this(apiDescriptionReader, apiModelReader, pluginsManager, new ScanProfiler());
+    }
+
+    public ApiListingScanner(ApiDescriptionReader apiDescriptionReader,
+                             ApiModelReader apiModelReader,
+                             DocumentationPluginsManager pluginsManager,
+                             ScanProfiler profiler) {
+        this(apiDescriptionReader, apiModelReader, pluginsManager, profiler, new CanonicalModels(new CacheRegistry()),
+                new ScanExecutor());
+    }
+
+    public ApiListingScanner(ApiDescriptionReader apiDescriptionReader,
+                             ApiModelReader apiModelReader,
+                             DocumentationPluginsManager pluginsManager,
+                             ScanProfiler profiler,
+                             CanonicalModels canonicalModels,
+                             ScanExecutor scanExecutor) {
+        this(apiDescriptionReader, apiModelReader, pluginsManager, profiler, canonicalModels, scanExecutor,
+                new OperationReadingOrder());
+    }
+
+    @Autowired
+    public ApiListingScanner(ApiDescriptionReader apiDescriptionReader,
+                             ApiModelReader apiModelReader,
+                             DocumentationPluginsManager pluginsManager,
+                             ScanProfiler profiler,
+                             CanonicalModels canonicalModels,
+                             ScanExecutor scanExecutor,
+                             OperationReadingOrder readingOrder) {
         this.apiDescriptionReader = apiDescriptionReader;
         this.apiModelReader = apiModelReader;
         this.pluginsManager = pluginsManager;
+        this.profiler = profiler;
+        this.canonicalModels = canonicalModels;
+        this.scanExecutor = scanExecutor;
+        this.readingOrder = readingOrder;
     }
 
     public Multimap<String, ApiListing> scan(ApiListingScanningContext context) {
+        if (scanExecutor.isParallel()) {
+            Map<RequestMappingContext, ListenableFuture<Map<String, Model>>> modelsRead
+                    = readModels(context, scanExecutor.executor());
+            try {
+                return scan(context, modelsRead);
+            } catch (UncheckedExecutionException e) {
+                throw propagate(e.getCause());
+            } finally {
+                for (ListenableFuture<Map<String, Model>> each : modelsRead.values()) {
+                    each.cancel(true);
+                }
+            }
+        }
+        return scan(context, Collections.<RequestMappingContext, ListenableFuture<Map<String, Model>>>emptyMap());
+    }
+
+    private Multimap<String, ApiListing> scan(ApiListingScanningContext context,
+                                              Map<RequestMappingContext, ListenableFuture<Map<String, Model>>> modelsRead) {
         Multimap<String, ApiListing> apiListingMap = LinkedListMultimap.create();
         int position = 0;
 
         Map<ResourceGroup, List<RequestMappingContext>> requestMappingsByResourceGroup
                 = context.getRequestMappingsByResourceGroup();
+        Map<ResourceGroup, Set<ApiDescription>> apiDescriptionsByResourceGroup = readApiDescriptions(context);
         List<SecurityReference> securityReferences = newArrayList();
         for (ResourceGroup resourceGroup : sortedByName(requestMappingsByResourceGroup.keySet())) {
 
             DocumentationContext documentationContext = context.getDocumentationContext();
+            String groupName = documentationContext.getGroupName();
             Set<String> produces = new LinkedHashSet<String>(documentationContext.getProduces());
             Set<String> consumes = new LinkedHashSet<String>(documentationContext.getConsumes());
             String host = documentationContext.getHost();
             Set<String> protocols = new LinkedHashSet<String>(documentationContext.getProtocols());
-            Set<ApiDescription> apiDescriptions = newHashSet();
+            Set<ApiDescription> apiDescriptions = apiDescriptionsByResourceGroup.get(resourceGroup);
 
-            Map<String, Model> models = new LinkedHashMap<String, Model>();
+            ModelMapBuilder models = apiModelReader.modelMapBuilder();
             for (RequestMappingContext each : sortedByMethods(requestMappingsByResourceGroup.get(resourceGroup))) {
-                models.putAll(apiModelReader.read(each.withKnownModels(models)));
-                apiDescriptions.addAll(apiDescriptionReader.read(each));
+                readModels(groupName, each, models, modelsRead);
             }
+            ScanProfiler.Timer listingAssembly = profiler.start(groupName, LISTING_ASSEMBLY);
+            try {
+                List<ApiDescription> sortedApis = newArrayList(apiDescriptions);
+                Collections.sort(sortedApis, documentationContext.getApiDescriptionOrdering());
 
+                String resourcePath = longestCommonPath(sortedApis);
 
-            List<ApiDescription> sortedApis = newArrayList(apiDescriptions);
-            Collections.sort(sortedApis, documentationContext.getApiDescriptionOrdering());
-
-            String resourcePath = longestCommonPath(sortedApis);
-
-            PathProvider pathProvider = documentationContext.getPathProvider();
-            String basePath = pathProvider.getApplicationBasePath();
-            PathAdjuster adjuster = new PathMappingAdjuster(documentationContext);
-            ApiListingBuilder apiListingBuilder = new ApiListingBuilder(context.apiDescriptionOrdering())
-                    .apiVersion(documentationContext.getApiInfo().getVersion())
-                    .basePath(adjuster.adjustedPath(basePath))
-                    .resourcePath(resourcePath)
-                    .produces(produces)
-                    .consumes(consumes)
-                    .host(host)
-                    .protocols(protocols)
-                    .securityReferences(securityReferences)
-                    .apis(sortedApis)
-                    .models(models)
-                    .position(position++);
-
-            ApiListingContext apiListingContext
-                    = new ApiListingContext(context.getDocumentationType(), resourceGroup, apiListingBuilder);
-            apiListingMap.put(resourceGroup.getGroupName(), pluginsManager.apiListing(apiListingContext));
+                PathProvider pathProvider = documentationContext.getPathProvider();
+                String basePath = pathProvider.getApplicationBasePath();
+                PathAdjuster adjuster = new PathMappingAdjuster(documentationContext);
+                ApiListingBuilder apiListingBuilder = new ApiListingBuilder(context.apiDescriptionOrdering())
+                        .apiVersion(documentationContext.getApiInfo().getVersion())
+                        .basePath(adjuster.adjustedPath(basePath))
+                        .resourcePath(resourcePath)
+                        .produces(produces)
+                        .consumes(consumes)
+                        .host(host)
+                        .protocols(protocols)
+                        .securityReferences(securityReferences)
+                        .apis(sortedApis)
+                        .models(models.build())
+                        .position(position++);
+
+                ApiListingContext apiListingContext
+                        = new ApiListingContext(context.getDocumentationType(), resourceGroup, apiListingBuilder);
+                ApiListing apiListing = pluginsManager.apiListing(apiListingContext);
+                apiListingMap.put(resourceGroup.getGroupName(), canonicalModels.canonical(apiListing));
+            } finally {
+                listingAssembly.stop();
+            }
         }
         return apiListingMap;
     }
 
+    /**
+     * Reads the api descriptions of all the resource groups, in turn with the other documentation groups.
+     */
+    private Map<ResourceGroup, Set<ApiDescription>> readApiDescriptions(ApiListingScanningContext context) {
+        String groupName = context.getDocumentationContext().getGroupName();
+        Map<ResourceGroup, List<RequestMappingContext>> requestMappingsByResourceGroup
+                = context.getRequestMappingsByResourceGroup();
+        readingOrder.awaitTurn(groupName);
+        try {
+            Map<ResourceGroup, Set<ApiDescription>> apiDescriptionsByResourceGroup = newHashMap();
+            for (ResourceGroup resourceGroup : sortedByName(requestMappingsByResourceGroup.keySet())) {
+                Set<ApiDescription> apiDescriptions = newHashSet();
+                for (RequestMappingContext each : sortedByMethods(requestMappingsByResourceGroup.get(resourceGroup))) {
+                    ScanProfiler.Timer operationReading
+                            = profiler.start(groupName, OPERATION_READING, each.getHandlerMethod());
+                    try {
+                        apiDescriptions.addAll(apiDescriptionReader.read(each));
+                    } finally {
+                        operationReading.stop();
+                    }
+                }
+                apiDescriptionsByResourceGroup.put(resourceGroup, apiDescriptions);
+            }
+            return apiDescriptionsByResourceGroup;
+        } finally {
+            readingOrder.read(groupName);
+        }
+    }
+
+    /**
+     * Reads the models of a request mapping into the models of its resource group. Models that were read in parallel
+     * are timed by the task that read them, the scanning thread only records the time spent waiting for them and
+     * merging them.
+     */
+    private void readModels(String groupName,
+                            RequestMappingContext context,
+                            ModelMapBuilder models,
+                            Map<RequestMappingContext, ListenableFuture<Map<String, Model>>> modelsRead) {
+        if (modelsRead.containsKey(context)) {
+            ScanProfiler.Timer modelMerging = profiler.start(groupName, MODEL_MERGING);
+            try {
+                apiModelReader.merge(models, getUnchecked(modelsRead.get(context)));
+            } finally {
+                modelMerging.stop();
+            }
+        } else {
+            ScanProfiler.Timer modelReading = profiler.start(groupName, MODEL_READING, context.getHandlerMethod());
+            try {
+                apiModelReader.read(context.withKnownModels(models.knownModels()), models);
+            } finally {
+                modelReading.stop();
+            }
+        }
+    }
+
+    private Map<RequestMappingContext, ListenableFuture<Map<String, Model>>> readModels(
+            ApiListingScanningContext context,
+            ListeningExecutorService executor) {
+
+        Map<RequestMappingContext, ListenableFuture<Map<String, Model>>> modelsRead = newHashMap();
+        for (List<RequestMappingContext> contexts : context.getRequestMappingsByResourceGroup().values()) {
+            for (RequestMappingContext each : contexts) {
+                modelsRead.put(each, executor.submit(readModelsTask(each)));
+            }
+        }
+        return modelsRead;
+    }
+
+    private Callable<Map<String, Model>> readModelsTask(final RequestMappingContext context) {
+        return new Callable<Map<String, Model>>() {
+            @Override
+            public Map<String, Model> call() throws Exception {
+                ScanProfiler.Timer modelReading = profiler.start(context.getDocumentationContext().getGroupName(),
+                        MODEL_READING, context.getHandlerMethod());
+                try {
+                    return apiModelReader.read(context);
+                } finally {
+                    modelReading.stop();
+                }
+            }
+        };
+    }
+
     private Iterable<ResourceGroup> sortedByName(Set<ResourceGroup> resourceGroups) {
         return FluentIterable.from(resourceGroups).toSortedList(resourceGroupComparator());
     }
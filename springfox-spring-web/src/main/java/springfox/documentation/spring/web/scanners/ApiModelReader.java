@@ -21,15 +21,12 @@ package springfox.documentation.spring.web.scanners;
 
 import com.fasterxml.classmate.TypeResolver;
 import com.google.common.base.Optional;
-import com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import springfox.documentation.builders.ModelBuilder;
 import springfox.documentation.schema.Model;
-import springfox.documentation.schema.ModelProperty;
 import springfox.documentation.schema.ModelProvider;
 import springfox.documentation.spi.schema.contexts.ModelContext;
 import springfox.documentation.spi.service.contexts.RequestMappingContext;
@@ -38,7 +35,6 @@ import springfox.documentation.spring.web.plugins.DocumentationPluginsManager;
 import java.util.Map;
 import java.util.Set;
 
-import static com.google.common.collect.Maps.newHashMap;
 import static com.google.common.collect.Sets.newHashSet;
 
 @Component
@@ -58,10 +54,21 @@ public class ApiModelReader {
     }
 
     public Map<String, Model> read(RequestMappingContext context) {
+        ModelMapBuilder modelMap = new ModelMapBuilder(context.getKnownModels());
+        read(context, modelMap);
+        return modelMap.build();
+    }
+
+    /**
+     * Reads the models of a request mapping straight into the models accumulated for its resource group.
+     *
+     * @param context - the request mapping to read
+     * @param target - the models read so far
+     */
+    public void read(RequestMappingContext context, ModelMapBuilder target) {
 
         Set<Class> ignorableTypes = newHashSet(context.getDocumentationContext().getIgnorableParameterTypes());
         Set<ModelContext> modelContexts = pluginsManager.modelContexts(context);
-        Map<String, Model> modelMap = newHashMap(context.getModelMap());
         for (ModelContext each : modelContexts) {
             markIgnorablesAsHasSeen(typeResolver, ignorableTypes, each);
             Optional<Model> pModel = modelProvider.modelFor(each);
@@ -69,54 +76,31 @@ public class ApiModelReader {
                 LOG.debug("Generated parameter model id: {}, name: {}, schema: {} models",
                         pModel.get().getId(),
                         pModel.get().getName());
-                mergeModelMap(modelMap, pModel.get());
+                target.merge(pModel.get());
             } else {
                 LOG.debug("Did not find any parameter models for {}", each.getType());
             }
-            populateDependencies(each, modelMap);
+            target.mergeAll(modelProvider.dependencies(each));
         }
-        return modelMap;
     }
 
-    @SuppressWarnings("unchecked")
-    private void mergeModelMap(Map<String, Model> target, Model source) {
-        String sourceModelKey = source.getId();
-
-        if (!target.containsKey(sourceModelKey)) {
-            //if we encounter completely unknown model, just add it
-            LOG.debug("Adding a new model with key {}", sourceModelKey);
-            target.put(sourceModelKey, source);
-        } else {
-            //we can encounter a known model with an unknown property
-            //if (de)serialization is not symmetrical (@JsonIgnore on setter, @JsonProperty on getter).
-            //In these cases, don't overwrite the entire model entry for that type, just add the unknown property.
-            Model targetModelValue = target.get(sourceModelKey);
-
-            Map<String, ModelProperty> targetProperties = targetModelValue.getProperties();
-            Map<String, ModelProperty> sourceProperties = source.getProperties();
-
-            Set<String> newSourcePropKeys = newHashSet(sourceProperties.keySet());
-            newSourcePropKeys.removeAll(targetProperties.keySet());
-            Map<String, ModelProperty> mergedTargetProperties = Maps.newHashMap(targetProperties);
-            for (String newProperty : newSourcePropKeys) {
-                LOG.debug("Adding a missing property {} to model {}", newProperty, sourceModelKey);
-                mergedTargetProperties.put(newProperty, sourceProperties.get(newProperty));
-            }
+    public ModelMapBuilder modelMapBuilder() {
+        return new ModelMapBuilder();
+    }
 
-            Model mergedModel = new ModelBuilder()
-                    .id(targetModelValue.getId())
-                    .name(targetModelValue.getName())
-                    .type(targetModelValue.getType())
-                    .qualifiedType(targetModelValue.getQualifiedType())
-                    .properties(mergedTargetProperties)
-                    .description(targetModelValue.getDescription())
-                    .baseModel(targetModelValue.getBaseModel())
-                    .discriminator(targetModelValue.getDiscriminator())
-                    .subTypes(targetModelValue.getSubTypes())
-                    .build();
+    /**
+     * Merges models that were read independently of each other into the target models, the same way models are merged
+     * into the known models of a request mapping when they are read.
+     *
+     * @param target - the models read so far
+     * @param source - models read for a request mapping without any known models
+     */
+    public void merge(ModelMapBuilder target, Map<String, Model> source) {
+        target.mergeAll(source);
+    }
 
-            target.put(sourceModelKey, mergedModel);
-        }
+    public void merge(Map<String, Model> target, Map<String, Model> source) {
+        target.putAll(new ModelMapBuilder(target).mergeAll(source).build());
     }
 
     private void markIgnorablesAsHasSeen(TypeResolver typeResolver,
@@ -128,11 +112,4 @@ public class ApiModelReader {
         }
     }
 
-    private void populateDependencies(ModelContext modelContext, Map<String, Model> modelMap) {
-        Map<String, Model> dependencies = modelProvider.dependencies(modelContext);
-        for (Model each : dependencies.values()) {
-            mergeModelMap(modelMap, each);
-        }
-    }
-
 }
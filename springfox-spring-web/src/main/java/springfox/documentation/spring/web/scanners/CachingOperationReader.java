@@ -19,19 +19,19 @@
 package springfox.documentation.spring.web.scanners;
 
 import com.google.common.base.Equivalence;
-import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.cache.Weigher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
+import springfox.documentation.schema.configuration.CacheRegistry;
 import springfox.documentation.service.Operation;
 import springfox.documentation.spi.service.contexts.RequestMappingContext;
 import springfox.documentation.spring.web.OperationCachingEquivalence;
 import springfox.documentation.spring.web.readers.operation.OperationReader;
 
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Component
 @Qualifier("cachedOperations")
@@ -39,17 +39,24 @@ public class CachingOperationReader implements OperationReader {
 
     private final LoadingCache<Equivalence.Wrapper<RequestMappingContext>, List<Operation>> cache;
 
+    public CachingOperationReader(OperationReader delegate) {
+        this(delegate, new CacheRegistry());
+    }
+
     @Autowired
-    public CachingOperationReader(@Qualifier("default") final OperationReader delegate) {
-        cache = CacheBuilder.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(24, TimeUnit.HOURS)
-                .build(
-                        new CacheLoader<Equivalence.Wrapper<RequestMappingContext>, List<Operation>>() {
-                            public List<Operation> load(Equivalence.Wrapper<RequestMappingContext> key) {
-                                return delegate.read(key.get());
-                            }
-                        });
+    public CachingOperationReader(@Qualifier("default") final OperationReader delegate, CacheRegistry caches) {
+        cache = caches.build("operations",
+                new CacheLoader<Equivalence.Wrapper<RequestMappingContext>, List<Operation>>() {
+                    public List<Operation> load(Equivalence.Wrapper<RequestMappingContext> key) {
+                        return delegate.read(key.get());
+                    }
+                },
+                new Weigher<Equivalence.Wrapper<RequestMappingContext>, List<Operation>>() {
+                    @Override
+                    public int weigh(Equivalence.Wrapper<RequestMappingContext> key, List<Operation> value) {
+                        return 1 + value.size();
+                    }
+                });
     }
 
     @Override
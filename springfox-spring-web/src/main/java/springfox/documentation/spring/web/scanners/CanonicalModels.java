@@ -0,0 +1,137 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.google.common.base.Equivalence;
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import springfox.documentation.schema.Model;
+import springfox.documentation.schema.ModelProperty;
+import springfox.documentation.schema.configuration.CacheRegistry;
+import springfox.documentation.service.ApiListing;
+import springfox.documentation.spring.web.ModelEquivalence;
+import springfox.documentation.spring.web.ModelPropertyEquivalence;
+
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newLinkedHashMap;
+
+/**
+ * Registry of the models read by all documentation groups. Structurally equivalent models and model properties are
+ * replaced by a single canonical instance, so a model that appears in several groups is held once.
+ * <p/>
+ * Models and model properties are mutable, e.g. {@link ModelProperty#updateModelRef}, so they are only shared once
+ * they are frozen, that is once the api listing that holds them has been built by the plugins of its group, see
+ * {@link #canonical(ApiListing)}.
+ */
+@Component
+public class CanonicalModels {
+    private final Equivalence<Model> modelEquivalence = new ModelEquivalence();
+    private final Equivalence<ModelProperty> propertyEquivalence = new ModelPropertyEquivalence();
+    private final Cache<Equivalence.Wrapper<Model>, Model> models;
+    private final Cache<Equivalence.Wrapper<ModelProperty>, ModelProperty> properties;
+
+    @Autowired
+    public CanonicalModels(CacheRegistry caches) {
+        models = caches.build("canonical-models", new Weigher<Equivalence.Wrapper<Model>, Model>() {
+            @Override
+            public int weigh(Equivalence.Wrapper<Model> key, Model value) {
+                return 1 + (value.getProperties() == null ? 0 : value.getProperties().size());
+            }
+        });
+        properties = caches.build("canonical-model-properties",
+                new Weigher<Equivalence.Wrapper<ModelProperty>, ModelProperty>() {
+                    @Override
+                    public int weigh(Equivalence.Wrapper<ModelProperty> key, ModelProperty value) {
+                        return 1;
+                    }
+                });
+    }
+
+    /**
+     * @param listing - an api listing the plugins of its group are done with
+     * @return the api listing with its models replaced by their canonical instances
+     */
+    public ApiListing canonical(ApiListing listing) {
+        if (listing.getModels() == null || listing.getModels().isEmpty()) {
+            return listing;
+        }
+        Map<String, Model> canonicalModels = newLinkedHashMap();
+        for (Map.Entry<String, Model> each : listing.getModels().entrySet()) {
+            canonicalModels.put(each.getKey(), canonical(each.getValue()));
+        }
+        return new ApiListing(
+                listing.getApiVersion(),
+                listing.getBasePath(),
+                listing.getResourcePath(),
+                listing.getProduces(),
+                listing.getConsumes(),
+                listing.getHost(),
+                listing.getProtocols(),
+                listing.getSecurityReferences(),
+                listing.getApis(),
+                canonicalModels,
+                listing.getDescription(),
+                listing.getPosition(),
+                listing.getTags());
+    }
+
+    public Model canonical(Model model) {
+        Model existing = models.getIfPresent(modelEquivalence.wrap(model));
+        if (existing != null) {
+            return existing;
+        }
+        Model canonical = withCanonicalProperties(model);
+        existing = models.asMap().putIfAbsent(modelEquivalence.wrap(canonical), canonical);
+        return existing != null ? existing : canonical;
+    }
+
+    public ModelProperty canonical(ModelProperty property) {
+        Equivalence.Wrapper<ModelProperty> key = propertyEquivalence.wrap(property);
+        ModelProperty existing = properties.getIfPresent(key);
+        if (existing == null) {
+            existing = properties.asMap().putIfAbsent(key, property);
+        }
+        return existing != null ? existing : property;
+    }
+
+    private Model withCanonicalProperties(Model model) {
+        if (model.getProperties() == null) {
+            return model;
+        }
+        Map<String, ModelProperty> canonicalProperties = newLinkedHashMap();
+        for (Map.Entry<String, ModelProperty> each : model.getProperties().entrySet()) {
+            canonicalProperties.put(each.getKey(), canonical(each.getValue()));
+        }
+        return new Model(
+                model.getId(),
+                model.getName(),
+                model.getType(),
+                model.getQualifiedType(),
+                canonicalProperties,
+                model.getDescription(),
+                model.getBaseModel(),
+                model.getDiscriminator(),
+                model.getSubTypes(),
+                model.getExample());
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.google.common.base.Equivalence;
+import com.google.common.cache.Cache;
+import com.google.common.cache.Weigher;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import springfox.documentation.schema.ModelRef;
+import springfox.documentation.schema.ModelReference;
+import springfox.documentation.schema.configuration.CacheRegistry;
+import springfox.documentation.service.ApiDescription;
+import springfox.documentation.service.ApiListing;
+import springfox.documentation.service.AuthorizationScope;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.service.Operation;
+import springfox.documentation.service.Parameter;
+import springfox.documentation.service.ResponseMessage;
+import springfox.documentation.service.SecurityReference;
+import springfox.documentation.spring.web.ModelReferenceEquivalence;
+import springfox.documentation.spring.web.ParameterEquivalence;
+import springfox.documentation.spring.web.ResponseMessageEquivalence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.collect.Lists.newArrayList;
+
+/**
+ * Rewrites the scanned documentation into a compact form when the springfox.documentation.memory.compact property is
+ * true. Repeated strings such as media types and model names are interned, collections are replaced by immutable
+ * ones, and structurally equivalent parameters, response messages and model references are shared by all the
+ * documentation groups. Models are already shared by {@link CanonicalModels}.
+ * <p/>
+ * The compact documentation is still held once it has been serialized. The serialized forms are kept in bounded
+ * caches and depend on the requested host, so the documentation is needed to serialize them again. Snapshots are the
+ * way to serve documentation that is not held in memory, see springfox.documentation.bootstrap.snapshot-dir.
+ */
+@Component
+public class DocumentationCompactor {
+    private final Interner<String> strings = Interners.newWeakInterner();
+    private final Equivalence<Parameter> parameterEquivalence = new ParameterEquivalence();
+    private final Equivalence<ResponseMessage> messageEquivalence = new ResponseMessageEquivalence();
+    private final Equivalence<ModelReference> referenceEquivalence = new ModelReferenceEquivalence();
+    private final Cache<Equivalence.Wrapper<Parameter>, Parameter> parameters;
+    private final Cache<Equivalence.Wrapper<ResponseMessage>, ResponseMessage> responseMessages;
+    private final Cache<Equivalence.Wrapper<ModelReference>, ModelReference> modelReferences;
+
+    @Value("${springfox.documentation.memory.compact:false}")
+    private boolean enabled;
+
+    @Autowired
+    public DocumentationCompactor(CacheRegistry caches) {
+        parameters = caches.build("compact-parameters",
+                DocumentationCompactor.<Equivalence.Wrapper<Parameter>, Parameter>unitWeight());
+        responseMessages = caches.build("compact-response-messages",
+                DocumentationCompactor.<Equivalence.Wrapper<ResponseMessage>, ResponseMessage>unitWeight());
+        modelReferences = caches.build("compact-model-references",
+                DocumentationCompactor.<Equivalence.Wrapper<ModelReference>, ModelReference>unitWeight());
+    }
+
+    /**
+     * @param documentation - the scanned documentation
+     * @return the compact form of the documentation, or the documentation as is when compacting is disabled
+     */
+    public Documentation compact(Documentation documentation) {
+        if (!enabled) {
+            return documentation;
+        }
+        ImmutableSetMultimap.Builder<String, ApiListing> apiListings = ImmutableSetMultimap.builder();
+        for (Map.Entry<String, ApiListing> each : documentation.getApiListings().entries()) {
+            apiListings.put(intern(each.getKey()), compact(each.getValue()));
+        }
+        return new Documentation(
+                intern(documentation.getGroupName()),
+                intern(documentation.getBasePath()),
+                immutable(documentation.getTags()),
+                apiListings.build(),
+                documentation.getResourceListing(),
+                strings(documentation.getProduces()),
+                strings(documentation.getConsumes()),
+                intern(documentation.getHost()),
+                strings(documentation.getSchemes()));
+    }
+
+    private ApiListing compact(ApiListing listing) {
+        List<ApiDescription> apis = newArrayList();
+        for (ApiDescription each : listing.getApis()) {
+            apis.add(compact(each));
+        }
+        return new ApiListing(
+                intern(listing.getApiVersion()),
+                intern(listing.getBasePath()),
+                intern(listing.getResourcePath()),
+                strings(listing.getProduces()),
+                strings(listing.getConsumes()),
+                intern(listing.getHost()),
+                strings(listing.getProtocols()),
+                immutable(listing.getSecurityReferences()),
+                ImmutableList.copyOf(apis),
+                immutable(listing.getModels()),
+                listing.getDescription(),
+                listing.getPosition(),
+                strings(listing.getTags()));
+    }
+
+    private ApiDescription compact(ApiDescription description) {
+        List<Operation> operations = newArrayList();
+        for (Operation each : description.getOperations()) {
+            operations.add(compact(each));
+        }
+        return new ApiDescription(
+                intern(description.getPath()),
+                description.getDescription(),
+                ImmutableList.copyOf(operations),
+                description.isHidden());
+    }
+
+    private Operation compact(Operation operation) {
+        List<Parameter> operationParameters = newArrayList();
+        for (Parameter each : operation.getParameters()) {
+            operationParameters.add(compact(each));
+        }
+        return new Operation(
+                operation.getMethod(),
+                operation.getSummary(),
+                operation.getNotes(),
+                compact(operation.getResponseModel()),
+                operation.getUniqueId(),
+                operation.getPosition(),
+                strings(operation.getTags()),
+                strings(operation.getProduces()),
+                strings(operation.getConsumes()),
+                strings(operation.getProtocol()),
+                securityReferences(operation.getSecurityReferences()),
+                ImmutableList.copyOf(operationParameters),
+                compactMessages(operation.getResponseMessages()),
+                operation.getDeprecated(),
+                operation.isHidden(),
+                operation.getVendorExtensions());
+    }
+
+    private Set<ResponseMessage> compactMessages(Collection<ResponseMessage> messages) {
+        ImmutableSet.Builder<ResponseMessage> compacted = ImmutableSet.builder();
+        for (ResponseMessage each : messages) {
+            compacted.add(compact(each));
+        }
+        return compacted.build();
+    }
+
+    private Parameter compact(Parameter parameter) {
+        Parameter existing = parameters.getIfPresent(parameterEquivalence.wrap(parameter));
+        if (existing != null) {
+            return existing;
+        }
+        Parameter compacted = new Parameter(
+                intern(parameter.getName()),
+                parameter.getDescription(),
+                parameter.getDefaultValue(),
+                parameter.isRequired(),
+                parameter.isAllowMultiple(),
+                compact(parameter.getModelRef()),
+                parameter.getType(),
+                parameter.getAllowableValues(),
+                intern(parameter.getParamType()),
+                intern(parameter.getParamAccess()));
+        return shared(parameters, parameterEquivalence.wrap(compacted), compacted);
+    }
+
+    private ResponseMessage compact(ResponseMessage message) {
+        ResponseMessage existing = responseMessages.getIfPresent(messageEquivalence.wrap(message));
+        if (existing != null) {
+            return existing;
+        }
+        ResponseMessage compacted = new ResponseMessage(message.getCode(), intern(message.getMessage()),
+                compact(message.getResponseModel()));
+        return shared(responseMessages, messageEquivalence.wrap(compacted), compacted);
+    }
+
+    private ModelReference compact(ModelReference reference) {
+        if (!(reference instanceof ModelRef)) {
+            return reference;
+        }
+        ModelReference existing = modelReferences.getIfPresent(referenceEquivalence.wrap(reference));
+        if (existing != null) {
+            return existing;
+        }
+        ModelReference itemModel = reference.itemModel().isPresent() ? compact(reference.itemModel().get()) : null;
+        ModelReference compacted = new ModelRef(intern(reference.getType()), itemModel, reference.getAllowableValues(),
+                reference.isMap());
+        return shared(modelReferences, referenceEquivalence.wrap(compacted), compacted);
+    }
+
+    private List<SecurityReference> securityReferences(Map<String, List<AuthorizationScope>> references) {
+        List<SecurityReference> compacted = newArrayList();
+        for (Map.Entry<String, List<AuthorizationScope>> each : references.entrySet()) {
+            compacted.add(new SecurityReference(intern(each.getKey()),
+                    each.getValue().toArray(new AuthorizationScope[each.getValue().size()])));
+        }
+        return compacted;
+    }
+
+    private <K, V> V shared(Cache<K, V> cache, K key, V value) {
+        V existing = cache.asMap().putIfAbsent(key, value);
+        return existing != null ? existing : value;
+    }
+
+    private Set<String> strings(Collection<String> values) {
+        if (values == null) {
+            return null;
+        }
+        ImmutableSet.Builder<String> interned = ImmutableSet.builder();
+        for (String each : values) {
+            interned.add(intern(each));
+        }
+        return interned.build();
+    }
+
+    private <T> Set<T> immutable(Set<T> values) {
+        return values == null ? null : ImmutableSet.copyOf(values);
+    }
+
+    private <T> List<T> immutable(List<T> values) {
+        return values == null ? null : ImmutableList.copyOf(values);
+    }
+
+    private <K, V> Map<K, V> immutable(Map<K, V> values) {
+        return values == null ? null : ImmutableMap.copyOf(values);
+    }
+
+    private String intern(String value) {
+        return value == null ? null : strings.intern(value);
+    }
+
+    private static <K, V> Weigher<K, V> unitWeight() {
+        return new Weigher<K, V>() {
+            @Override
+            public int weigh(K key, V value) {
+                return 1;
+            }
+        };
+    }
+}
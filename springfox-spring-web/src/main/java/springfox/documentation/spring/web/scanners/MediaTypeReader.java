@@ -46,11 +46,15 @@ import static org.springframework.core.annotation.AnnotationUtils.findAnnotation
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class MediaTypeReader implements OperationBuilderPlugin, ApiListingBuilderPlugin {
 
-    private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
 
-    @Autowired
     public MediaTypeReader(TypeResolver typeResolver) {
-        this.typeResolver = typeResolver;
+        this(new HandlerMethodResolver(typeResolver));
+    }
+
+    @Autowired
+    public MediaTypeReader(HandlerMethodResolver handlerMethodResolver) {
+        this.handlerMethodResolver = handlerMethodResolver;
     }
 
     @Override
@@ -90,7 +94,6 @@ public class MediaTypeReader implements OperationBuilderPlugin, ApiListingBuilde
 
     private boolean handlerMethodHasFileParameter(OperationContext context) {
 
-        HandlerMethodResolver handlerMethodResolver = new HandlerMethodResolver(typeResolver);
         List<ResolvedMethodParameter> methodParameters = handlerMethodResolver.methodParameters(context.getHandlerMethod());
 
         for (ResolvedMethodParameter resolvedMethodParameter : methodParameters) {
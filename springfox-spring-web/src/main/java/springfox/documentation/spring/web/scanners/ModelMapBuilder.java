@@ -0,0 +1,126 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import springfox.documentation.builders.ModelBuilder;
+import springfox.documentation.schema.Model;
+import springfox.documentation.schema.ModelProperty;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static com.google.common.collect.Maps.newHashMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+
+/**
+ * Accumulates the models of a resource group in place. Models that are already known only collect the properties
+ * they are missing, and are rebuilt once when the map is built rather than every time a property is added.
+ */
+public class ModelMapBuilder {
+    private static final Logger LOG = LoggerFactory.getLogger(ModelMapBuilder.class);
+    private final Map<String, Model> models = newLinkedHashMap();
+    private final Map<String, Map<String, ModelProperty>> mergedProperties = newHashMap();
+
+    public ModelMapBuilder() {
+    }
+
+    public ModelMapBuilder(Map<String, Model> knownModels) {
+        models.putAll(knownModels);
+    }
+
+    public ModelMapBuilder merge(Model source) {
+        String sourceModelKey = source.getId();
+        Model target = models.get(sourceModelKey);
+        if (target == null) {
+            //if we encounter completely unknown model, just add it
+            LOG.debug("Adding a new model with key {}", sourceModelKey);
+            models.put(sourceModelKey, source);
+            return this;
+        }
+        //we can encounter a known model with an unknown property
+        //if (de)serialization is not symmetrical (@JsonIgnore on setter, @JsonProperty on getter).
+        //In these cases, don't overwrite the entire model entry for that type, just add the unknown property.
+        Map<String, ModelProperty> targetProperties = properties(sourceModelKey, target);
+        for (Map.Entry<String, ModelProperty> each : source.getProperties().entrySet()) {
+            if (!targetProperties.containsKey(each.getKey())) {
+                LOG.debug("Adding a missing property {} to model {}", each.getKey(), sourceModelKey);
+                mergedProperties(sourceModelKey, target).put(each.getKey(), each.getValue());
+            }
+        }
+        return this;
+    }
+
+    public ModelMapBuilder mergeAll(Map<String, Model> source) {
+        for (Model each : source.values()) {
+            merge(each);
+        }
+        return this;
+    }
+
+    /**
+     * @return a read-only view of the models accumulated so far, keyed by model id
+     */
+    public Map<String, Model> knownModels() {
+        return Collections.unmodifiableMap(models);
+    }
+
+    public Map<String, Model> build() {
+        Map<String, Model> built = newLinkedHashMap();
+        for (Map.Entry<String, Model> each : models.entrySet()) {
+            Map<String, ModelProperty> properties = mergedProperties.get(each.getKey());
+            if (properties == null) {
+                built.put(each.getKey(), each.getValue());
+            } else {
+                built.put(each.getKey(), withProperties(each.getValue(), properties));
+            }
+        }
+        return built;
+    }
+
+    private Map<String, ModelProperty> properties(String key, Model model) {
+        Map<String, ModelProperty> merged = mergedProperties.get(key);
+        return merged != null ? merged : model.getProperties();
+    }
+
+    private Map<String, ModelProperty> mergedProperties(String key, Model model) {
+        Map<String, ModelProperty> merged = mergedProperties.get(key);
+        if (merged == null) {
+            merged = newHashMap(model.getProperties());
+            mergedProperties.put(key, merged);
+        }
+        return merged;
+    }
+
+    private Model withProperties(Model model, Map<String, ModelProperty> properties) {
+        return new ModelBuilder()
+                .id(model.getId())
+                .name(model.getName())
+                .type(model.getType())
+                .qualifiedType(model.getQualifiedType())
+                .properties(properties)
+                .description(model.getDescription())
+                .baseModel(model.getBaseModel())
+                .discriminator(model.getDiscriminator())
+                .subTypes(model.getSubTypes())
+                .build();
+    }
+}
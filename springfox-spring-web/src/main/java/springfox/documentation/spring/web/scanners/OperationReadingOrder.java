@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Throwables.propagate;
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Sets.newHashSet;
+
+/**
+ * Lets the documentation groups read their operations one after another, in the order in which the groups are
+ * bootstrapped, whichever thread scans them. Operation ids are made unique across the groups in the order in which
+ * the operations are read, and operations that were read already are shared by the groups, so reading them in
+ * bootstrap order keeps the documentation the same however the groups are scanned.
+ * <p/>
+ * Groups that are not part of the order read their operations right away.
+ */
+@Component
+public class OperationReadingOrder {
+    private final List<String> groupNames = newArrayList();
+    private final Set<String> read = newHashSet();
+
+    /**
+     * @param groupNames - the names of the documentation groups in the order in which they are bootstrapped
+     */
+    public synchronized void groups(List<String> groupNames) {
+        this.groupNames.clear();
+        this.groupNames.addAll(groupNames);
+        read.clear();
+        notifyAll();
+    }
+
+    /**
+     * Waits until the groups that come before the given group have read their operations.
+     *
+     * @param groupName - the group about to read its operations
+     */
+    public synchronized void awaitTurn(String groupName) {
+        try {
+            while (!read.containsAll(preceding(groupName))) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw propagate(e);
+        }
+    }
+
+    /**
+     * Records that a group is done reading its operations, whether it succeeded or not, so that the groups after it
+     * can read theirs.
+     *
+     * @param groupName - the group that read its operations
+     */
+    public synchronized void read(String groupName) {
+        read.add(groupName);
+        notifyAll();
+    }
+
+    private List<String> preceding(String groupName) {
+        int index = groupNames.indexOf(groupName);
+        return index < 0 ? Collections.<String>emptyList() : groupNames.subList(0, index);
+    }
+}
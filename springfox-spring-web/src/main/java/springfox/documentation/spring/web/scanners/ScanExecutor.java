@@ -0,0 +1,65 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static com.google.common.util.concurrent.MoreExecutors.listeningDecorator;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+/**
+ * The threads the models of the request mappings are read with when the springfox.documentation.scan.parallelism
+ * property is greater than 1. The threads are created on first use, shared by the scans of all the documentation
+ * groups and shut down with the application context.
+ */
+@Component
+public class ScanExecutor implements DisposableBean {
+    @Value("${springfox.documentation.scan.parallelism:1}")
+    private int parallelism;
+
+    private ListeningExecutorService executor;
+
+    public boolean isParallel() {
+        return parallelism > 1;
+    }
+
+    public synchronized ListeningExecutorService executor() {
+        if (executor == null) {
+            executor = listeningDecorator(newFixedThreadPool(Math.max(parallelism, 1),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("springfox-scanner-%d")
+                            .setDaemon(true)
+                            .build()));
+        }
+        return executor;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Joiner;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.collect.Maps.newConcurrentMap;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+
+/**
+ * Profiles the scan of each documentation group when the springfox.documentation.profiler.enabled property is true.
+ * The time spent and the bytes allocated are recorded for each phase of the scan, and the model and operation reading
+ * phases are also attributed to the controller classes and handler methods being read. Phases that run on several
+ * threads add up the time spent on each thread. When the models are read in parallel, the time the scanning thread
+ * spends waiting for them and merging them is recorded as the model merging phase, so that it is not counted twice.
+ * <p/>
+ * The report is available from {@link #report()}, and is written as json to the file named by the
+ * springfox.documentation.profiler.report-file property, if any, each time a group has been scanned. Allocated bytes
+ * are only reported by JVMs that can measure the memory allocated by a thread, otherwise they are -1.
+ */
+@Component
+public class ScanProfiler {
+    public static final String REFERENCE_SCANNING = "reference-scanning";
+    public static final String MODEL_READING = "model-reading";
+    public static final String MODEL_MERGING = "model-merging";
+    public static final String OPERATION_READING = "operation-reading";
+    public static final String LISTING_ASSEMBLY = "listing-assembly";
+    public static final String RESOURCE_LISTING = "resource-listing";
+    private static final List<String> PHASES = newArrayList(REFERENCE_SCANNING, MODEL_READING, MODEL_MERGING,
+            OPERATION_READING, LISTING_ASSEMBLY, RESOURCE_LISTING);
+    private static final Logger LOG = LoggerFactory.getLogger(ScanProfiler.class);
+    private static final Timer NOT_PROFILED = new Timer(null, null, null, null, 0, 0);
+
+    private final ConcurrentMap<String, GroupProfile> groups = newConcurrentMap();
+    private final AllocationMeter allocations = new AllocationMeter();
+
+    @Value("${springfox.documentation.profiler.enabled:false}")
+    private boolean enabled;
+
+    @Value("${springfox.documentation.profiler.report-file:}")
+    private String reportFile;
+
+    public Timer start(String groupName, String phase) {
+        return start(groupName, phase, null);
+    }
+
+    /**
+     * Starts timing a phase of the scan of a group. The timer must be stopped on the thread that started it, in a
+     * finally block so that a failing phase is still recorded.
+     *
+     * @param groupName     - the group being scanned
+     * @param phase         - one of the phases of the scan
+     * @param handlerMethod - the handler method the time is attributed to, if any
+     * @return the timer to stop once the phase completes
+     */
+    public Timer start(String groupName, String phase, HandlerMethod handlerMethod) {
+        if (!enabled) {
+            return NOT_PROFILED;
+        }
+        return new Timer(this, groupName, phase, handlerMethod, System.nanoTime(), allocations.allocatedBytes());
+    }
+
+    /**
+     * @return the profile of each group scanned so far
+     */
+    public Map<String, Object> report() {
+        List<Object> report = newArrayList();
+        for (Map.Entry<String, GroupProfile> each : groups.entrySet()) {
+            report.add(each.getValue().report(each.getKey()));
+        }
+        Map<String, Object> root = newLinkedHashMap();
+        root.put("groups", report);
+        return root;
+    }
+
+    /**
+     * Writes the report to the report file, if there is one.
+     */
+    public void publish() {
+        if (!enabled || reportFile == null || reportFile.isEmpty()) {
+            return;
+        }
+        File file = new File(reportFile);
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file, report());
+            LOG.info("Wrote the documentation scan profile to {}", file.getAbsolutePath());
+        } catch (IOException e) {
+            LOG.warn("Unable to write the documentation scan profile to {}", file.getAbsolutePath(), e);
+        }
+    }
+
+    private void record(Timer timer, long nanos, long bytes) {
+        GroupProfile group = groups.get(timer.groupName);
+        if (group == null) {
+            group = new GroupProfile();
+            GroupProfile existing = groups.putIfAbsent(timer.groupName, group);
+            if (existing != null) {
+                group = existing;
+            }
+        }
+        group.record(timer.phase, timer.handlerMethod, nanos, bytes);
+    }
+
+    public static class Timer {
+        private final ScanProfiler profiler;
+        private final String groupName;
+        private final String phase;
+        private final HandlerMethod handlerMethod;
+        private final long startNanos;
+        private final long startBytes;
+
+        private Timer(ScanProfiler profiler, String groupName, String phase, HandlerMethod handlerMethod,
+                      long startNanos, long startBytes) {
+            this.profiler = profiler;
+            this.groupName = groupName;
+            this.phase = phase;
+            this.handlerMethod = handlerMethod;
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+
+        public void stop() {
+            if (profiler == null) {
+                return;
+            }
+            long bytes = startBytes < 0 ? -1 : profiler.allocations.allocatedBytes() - startBytes;
+            profiler.record(this, System.nanoTime() - startNanos, bytes);
+        }
+    }
+
+    private static class GroupProfile {
+        private final ConcurrentMap<String, Measure> phases = newConcurrentMap();
+        private final ConcurrentMap<Class<?>, ConcurrentMap<String, Measure>> controllers = newConcurrentMap();
+
+        void record(String phase, HandlerMethod handlerMethod, long nanos, long bytes) {
+            measure(phases, phase).add(nanos, bytes);
+            if (handlerMethod != null) {
+                ConcurrentMap<String, Measure> methods = controllers.get(handlerMethod.getBeanType());
+                if (methods == null) {
+                    methods = newConcurrentMap();
+                    ConcurrentMap<String, Measure> existing = controllers.putIfAbsent(handlerMethod.getBeanType(),
+                            methods);
+                    if (existing != null) {
+                        methods = existing;
+                    }
+                }
+                measure(methods, signature(handlerMethod.getMethod())).add(nanos, bytes);
+            }
+        }
+
+        Map<String, Object> report(String groupName) {
+            Map<String, Object> phaseReport = newLinkedHashMap();
+            for (String each : PHASES) {
+                if (phases.containsKey(each)) {
+                    phaseReport.put(each, phases.get(each).report());
+                }
+            }
+            List<Map<String, Object>> controllerReport = newArrayList();
+            for (Map.Entry<Class<?>, ConcurrentMap<String, Measure>> each : controllers.entrySet()) {
+                Measure total = new Measure();
+                List<Map<String, Object>> methodReport = newArrayList();
+                for (Map.Entry<String, Measure> method : each.getValue().entrySet()) {
+                    total.add(method.getValue());
+                    Map<String, Object> methodEntry = newLinkedHashMap();
+                    methodEntry.put("method", method.getKey());
+                    methodEntry.putAll(method.getValue().report());
+                    methodReport.add(methodEntry);
+                }
+                Map<String, Object> controllerEntry = newLinkedHashMap();
+                controllerEntry.put("controller", each.getKey().getName());
+                controllerEntry.putAll(total.report());
+                controllerEntry.put("handlerMethods", slowestFirst().sortedCopy(methodReport));
+                controllerReport.add(controllerEntry);
+            }
+            Map<String, Object> group = newLinkedHashMap();
+            group.put("group", groupName);
+            group.put("phases", phaseReport);
+            group.put("controllers", slowestFirst().sortedCopy(controllerReport));
+            return group;
+        }
+
+        private static Measure measure(ConcurrentMap<String, Measure> measures, String key) {
+            Measure measure = measures.get(key);
+            if (measure == null) {
+                measure = new Measure();
+                Measure existing = measures.putIfAbsent(key, measure);
+                if (existing != null) {
+                    measure = existing;
+                }
+            }
+            return measure;
+        }
+
+        private static String signature(Method method) {
+            List<String> parameters = newArrayList();
+            for (Class<?> each : method.getParameterTypes()) {
+                parameters.add(each.getSimpleName());
+            }
+            return String.format("%s(%s)", method.getName(), Joiner.on(", ").join(parameters));
+        }
+
+        private static Ordering<Map<String, Object>> slowestFirst() {
+            return Ordering.from(new Comparator<Map<String, Object>>() {
+                @Override
+                public int compare(Map<String, Object> first, Map<String, Object> second) {
+                    return Longs.compare((Long) second.get("nanos"), (Long) first.get("nanos"));
+                }
+            });
+        }
+    }
+
+    private static class Measure {
+        private final AtomicLong invocations = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        void add(long elapsed, long allocated) {
+            invocations.incrementAndGet();
+            nanos.addAndGet(elapsed);
+            if (allocated < 0) {
+                bytes.set(-1);
+            } else if (bytes.get() >= 0) {
+                bytes.addAndGet(allocated);
+            }
+        }
+
+        void add(Measure other) {
+            invocations.addAndGet(other.invocations.get());
+            nanos.addAndGet(other.nanos.get());
+            if (other.bytes.get() < 0) {
+                bytes.set(-1);
+            } else if (bytes.get() >= 0) {
+                bytes.addAndGet(other.bytes.get());
+            }
+        }
+
+        Map<String, Object> report() {
+            Map<String, Object> report = newLinkedHashMap();
+            report.put("invocations", invocations.get());
+            report.put("nanos", nanos.get());
+            report.put("millis", TimeUnit.NANOSECONDS.toMillis(nanos.get()));
+            report.put("allocatedBytes", bytes.get());
+            return report;
+        }
+    }
+
+    /**
+     * Measures the bytes allocated by the current thread on JVMs whose ThreadMXBean supports it.
+     */
+    private static class AllocationMeter {
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private final Method allocatedBytes = allocatedBytesMethod(threads);
+
+        long allocatedBytes() {
+            if (allocatedBytes == null) {
+                return -1;
+            }
+            try {
+                return (Long) allocatedBytes.invoke(threads, Thread.currentThread().getId());
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+
+        private static Method allocatedBytesMethod(ThreadMXBean threads) {
+            try {
+                Class<?> extendedThreads = Class.forName("com.sun.management.ThreadMXBean");
+                if (!extendedThreads.isInstance(threads)) {
+                    return null;
+                }
+                return extendedThreads.getMethod("getThreadAllocatedBytes", long.class);
+            } catch (Exception e) {
+                LOG.debug("The allocated bytes are not measured by this JVM", e);
+                return null;
+            }
+        }
+    }
+}
@@ -19,9 +19,13 @@
 
 package springfox.documentation.spring.web
 
+import com.google.common.base.Supplier
 import spock.lang.Specification
 import springfox.documentation.builders.DocumentationBuilder
 
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+
 class DocumentationCacheSpec extends Specification {
     def "Behaves like a map"() {
         given:
@@ -38,4 +42,52 @@ class DocumentationCacheSpec extends Specification {
         sut.documentationByGroup("non-existent") == null
 
     }
+
+    def "Lazily registered groups are scanned once on first access"() {
+        given:
+        def sut = new DocumentationCache()
+        def scan = Mock(Supplier)
+        and:
+        sut.addDocumentation("lazy", scan)
+
+        when:
+        def names = sut.groupNames()
+        then:
+        names == ["lazy"] as Set
+        0 * scan.get()
+
+        when:
+        def executor = Executors.newFixedThreadPool(4)
+        def lookups = (1..8).collect { executor.submit({ sut.documentationByGroup("lazy") } as Callable) }
+        def groups = lookups.collect { it.get() }
+        executor.shutdown()
+        then:
+        1 * scan.get() >> new DocumentationBuilder().name("lazy").build()
+        groups.every { it.groupName == "lazy" }
+        sut.all().keySet() == ["lazy"] as Set
+    }
+
+    def "The generation changes when a lazily registered group has been scanned"() {
+        given:
+        def sut = new DocumentationCache()
+        def scan = Mock(Supplier)
+        sut.addDocumentation("lazy", scan)
+        def registered = sut.generation()
+
+        when:
+        sut.documentationByGroup("lazy")
+        then:
+        1 * scan.get() >> { throw new IllegalStateException("Scan failed") }
+        thrown(IllegalStateException)
+        sut.generation() == registered
+
+        when:
+        sut.documentationByGroup("lazy")
+        def scanned = sut.generation()
+        sut.documentationByGroup("lazy")
+        then:
+        1 * scan.get() >> new DocumentationBuilder().name("lazy").build()
+        scanned != registered
+        sut.generation() == scanned
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web
+
+import com.google.common.io.Files
+import spock.lang.Specification
+import springfox.documentation.builders.DocumentationBuilder
+
+class DocumentationExporterSpec extends Specification {
+    File directory = Files.createTempDir()
+
+    def cleanup() {
+        directory.deleteDir()
+    }
+
+    def "Writes every format of every documentation group"() {
+        given:
+        def cache = new DocumentationCache()
+        cache.addDocumentation(new DocumentationBuilder().name("first").build())
+        cache.addDocumentation(new DocumentationBuilder().name("second").build())
+        and:
+        def writer = Mock(DocumentationWriter)
+        writer.write(_) >> { args -> [swagger2: args[0].groupName.getBytes("UTF-8")] }
+
+        when:
+        new DocumentationExporter(directory).export(cache, [writer])
+        then:
+        new File(directory, "first.swagger2.json").text == "first"
+        new File(directory, "second.swagger2.json").text == "second"
+        new File(directory, "first.formats").text == "swagger2"
+        new File(directory, "second.formats").text == "swagger2"
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web
+
+import com.google.common.io.Files
+import springfox.documentation.builders.DocumentationBuilder
+import springfox.documentation.spring.web.plugins.DocumentationContextSpec
+
+class DocumentationSnapshotsSpec extends DocumentationContextSpec {
+    File directory = Files.createTempDir()
+
+    def cleanup() {
+        directory.deleteDir()
+    }
+
+    def "Snapshots of an unchanged documentation context are restored"() {
+        given:
+        def writer = snapshots()
+        def documentation = new DocumentationBuilder().name("default").build()
+
+        when:
+        def restored = writer.restore(context())
+        writer.write("default", "swagger2", "{}".getBytes("UTF-8"), documentation)
+        then:
+        !restored
+        writer.read("default", "swagger2").isPresent()
+
+        when:
+        def reader = snapshots()
+        then:
+        reader.restore(context())
+        new String(reader.read("default", "swagger2").get(), "UTF-8") == "{}"
+        !reader.read("default", "swagger12").isPresent()
+    }
+
+    def "Snapshots of a changed documentation context are ignored"() {
+        given:
+        def writer = snapshots()
+        writer.restore(context())
+        writer.write("default", "swagger2", "{}".getBytes("UTF-8"), new DocumentationBuilder().name("default").build())
+        and:
+        plugin.host("changed.example.com")
+
+        when:
+        def reader = snapshots()
+        then:
+        !reader.restore(context())
+        !reader.read("default", "swagger2").isPresent()
+    }
+
+    def "Nothing is restored or written unless a snapshot directory is configured"() {
+        given:
+        def sut = new DocumentationSnapshots()
+
+        when:
+        sut.write("default", "swagger2", "{}".getBytes("UTF-8"), new DocumentationBuilder().name("default").build())
+        then:
+        !sut.isEnabled()
+        !sut.restore(context())
+        !sut.read("default", "swagger2").isPresent()
+    }
+
+    def "Precomputed resources are only looked up for restored groups and missing resources are not held"() {
+        given:
+        def sut = new DocumentationSnapshots()
+        sut.precomputed = true
+        plugin.groupName("exported")
+
+        when:
+        def restored = sut.restore(context())
+        then:
+        restored
+        new String(sut.read("exported", "swagger2").get(), "UTF-8") == "{}"
+        !sut.read("unknown", "swagger2").isPresent()
+        !sut.read("exported", "swagger12").isPresent()
+        !sut.read("exported", "../../swagger2").isPresent()
+        sut.precomputedResources.keySet() == ["exported/swagger2"] as Set
+    }
+
+    def "Groups without precomputed resources are scanned"() {
+        given:
+        def sut = new DocumentationSnapshots()
+        sut.precomputed = true
+
+        when:
+        def restored = sut.restore(context())
+        then:
+        !restored
+        !sut.read("default", "swagger2").isPresent()
+        sut.precomputedResources.isEmpty()
+    }
+
+    def "Formats are encoded in the snapshot file names"() {
+        expect:
+        DocumentationSnapshots.fileName("default", "swagger12-pets") == "default.swagger12-pets.json"
+        DocumentationSnapshots.fileName("default", "../pets") == "default...%2Fpets.json"
+    }
+
+    def snapshots() {
+        def snapshots = new DocumentationSnapshots()
+        snapshots.snapshotDirectory = directory.absolutePath
+        snapshots
+    }
+}
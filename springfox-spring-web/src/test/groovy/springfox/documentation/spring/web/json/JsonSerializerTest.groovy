@@ -49,4 +49,23 @@ class JsonSerializerTest extends Specification {
         1 * objectMapper.writeValueAsString(object)
         1 * registrar.maybeRegisterModule(_)
     }
+
+    def "should stream the serialized object into the generator it is written to"() {
+        given:
+        JsonSerializer sut = new JsonSerializer([])
+        def object = [name: 'value']
+        when:
+        def json = sut.toStreamingJson(object)
+        then:
+        new ObjectMapper().writeValueAsString([json: json]) == '{"json":{"name":"value"}}'
+        json.value() == '{"name":"value"}'
+    }
+
+    def "should write the parts of spliced json one after the other"() {
+        given:
+        def json = new SplicedJson('{"host":', '"example.com"', ',"name":"value"}')
+        expect:
+        new ObjectMapper().writeValueAsString([json: json]) == '{"json":{"host":"example.com","name":"value"}}'
+        json.value() == '{"host":"example.com","name":"value"}'
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.plugins
+
+import spock.lang.Specification
+
+class BootstrapModeSpec extends Specification {
+    def "Groups are scanned sequentially by default"() {
+        given:
+        def sut = new BootstrapMode()
+
+        expect:
+        sut.parallelism == 1
+        !sut.parallel
+        !sut.lazy
+        !sut.async
+    }
+
+    def "Lazy bootstrapping takes precedence over asynchronous bootstrapping"() {
+        given:
+        def sut = new BootstrapMode()
+        sut.async = true
+        sut.lazy = true
+
+        expect:
+        !sut.async
+        sut.isAsyncIgnored()
+    }
+}
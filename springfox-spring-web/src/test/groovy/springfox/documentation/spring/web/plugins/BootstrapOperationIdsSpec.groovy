@@ -0,0 +1,135 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.plugins
+
+import com.fasterxml.classmate.TypeResolver
+import com.google.common.collect.Ordering
+import org.springframework.context.ApplicationContext
+import org.springframework.context.event.ContextRefreshedEvent
+import org.springframework.web.bind.annotation.RequestMethod
+import spock.lang.Specification
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.schema.configuration.PluginTimings
+import springfox.documentation.service.ResourceGroup
+import springfox.documentation.spi.DocumentationType
+import springfox.documentation.spi.service.OperationBuilderPlugin
+import springfox.documentation.spi.service.RequestHandlerProvider
+import springfox.documentation.spi.service.contexts.Defaults
+import springfox.documentation.spi.service.contexts.DocumentationContext
+import springfox.documentation.spi.service.contexts.OperationContext
+import springfox.documentation.spi.service.contexts.RequestMappingContext
+import springfox.documentation.spring.web.DocumentationCache
+import springfox.documentation.spring.web.DocumentationSnapshots
+import springfox.documentation.spring.web.dummy.DummyClass
+import springfox.documentation.spring.web.mixins.RequestMappingSupport
+import springfox.documentation.spring.web.mixins.ServicePluginsSupport
+import springfox.documentation.spring.web.readers.operation.ApiOperationReader
+import springfox.documentation.spring.web.readers.operation.CachingOperationNameGenerator
+import springfox.documentation.spring.web.readers.operation.DefaultOperationReader
+import springfox.documentation.spring.web.scanners.*
+
+import javax.servlet.ServletContext
+
+import static springfox.documentation.spi.service.contexts.Orderings.nickNameComparator
+
+@Mixin([RequestMappingSupport, ServicePluginsSupport])
+class BootstrapOperationIdsSpec extends Specification {
+
+    def "Operation ids do not depend on the number of threads the groups are scanned with"() {
+        when:
+        def sequential = operationIds(1)
+        def parallel = operationIds(4)
+
+        then:
+        parallel == sequential
+        and: "operation ids are unique across the groups and the operations shared by the groups are read once"
+        sequential["first"] == ["dummyMethodUsingGET", "dummyMethodUsingGET_1"] as Set
+        sequential["second"] == ["dummyMethodUsingGET", "dummyMethodUsingGET_2"] as Set
+    }
+
+    def operationIds(int parallelism) {
+        def plugins = customWebPlugins([], [], [new DefaultOperationReader(), slowFirstGroup()])
+        def readingOrder = new OperationReadingOrder()
+        def operationReader = new CachingOperationReader(
+                new ApiOperationReader(plugins, new CachingOperationNameGenerator()))
+        def apiModelReader = Mock(ApiModelReader)
+        apiModelReader.modelMapBuilder() >> { new ModelMapBuilder() }
+        def listingScanner = new ApiListingScanner(
+                new ApiDescriptionReader(operationReader, plugins, new ApiDescriptionLookup()),
+                apiModelReader,
+                plugins,
+                new ScanProfiler(),
+                new CanonicalModels(new CacheRegistry()),
+                new ScanExecutor(),
+                readingOrder)
+        def referenceScanner = Mock(ApiListingReferenceScanner)
+        referenceScanner.scan(_) >> { DocumentationContext context ->
+            new ApiListingReferenceScanResult(requestMappings(context))
+        }
+        and:
+        def defaultConfiguration = new DefaultConfiguration(new Defaults(), new TypeResolver(), Mock(ServletContext))
+        def pluginManager = Mock(DocumentationPluginsManager)
+        pluginManager.documentationPlugins() >> [docket("second"), docket("first")]
+        pluginManager.createContextBuilder(_, _) >> {
+            defaultConfiguration.create(DocumentationType.SWAGGER_12)
+                    .operationOrdering(Ordering.from(nickNameComparator()))
+        }
+        def handlerProvider = Mock(RequestHandlerProvider)
+        handlerProvider.requestHandlers() >> []
+        def mode = new BootstrapMode()
+        mode.parallelism = parallelism
+        def cache = new DocumentationCache()
+        and:
+        new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                new PluginTimings(),
+                new ApiDocumentationScanner(referenceScanner, listingScanner),
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, readingOrder)
+                .onApplicationEvent(new ContextRefreshedEvent(Mock(ApplicationContext)))
+        cache.all().collectEntries { groupName, documentation ->
+            [(groupName): documentation.apiListings.values()*.apis.flatten()*.operations.flatten()*.uniqueId as Set]
+        }
+    }
+
+    def docket(String groupName) {
+        new Docket(DocumentationType.SWAGGER_12).groupName(groupName)
+    }
+
+    def requestMappings(DocumentationContext context) {
+        def get = [requestMethodsRequestCondition: requestMethodsRequestCondition(RequestMethod.GET)]
+        [(new ResourceGroup("dummy", DummyClass)): [
+                new RequestMappingContext(context, requestMappingInfo("/shared", get), dummyHandlerMethod()),
+                new RequestMappingContext(context, requestMappingInfo("/${context.groupName}", get),
+                        dummyHandlerMethod())]]
+    }
+
+    def slowFirstGroup() {
+        [apply   : { OperationContext context ->
+            if (context.documentationContext.groupName == "first") {
+                Thread.sleep(50)
+            }
+        },
+         supports: { DocumentationType type -> true }] as OperationBuilderPlugin
+    }
+}
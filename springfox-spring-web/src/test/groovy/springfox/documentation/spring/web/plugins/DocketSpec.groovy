@@ -221,6 +221,15 @@ class DocketSpec extends DocumentationContextSpec {
         'pathMapping' | null    | Optional.absent()
     }
 
+    def "Cache specifications are set"() {
+        when:
+        plugin.cacheSpecification("models", "maximumSize=10")
+                .cacheSpecification("operations", "maximumWeight=100")
+
+        then:
+        context().cacheSpecifications == ["models": "maximumSize=10", "operations": "maximumWeight=100"]
+    }
+
     Ordering<ApiDescription> apiDescriptionOrdering() {
         new Defaults().apiDescriptionOrdering()
     }
@@ -23,16 +23,24 @@ import com.fasterxml.classmate.TypeResolver
 import org.springframework.context.ApplicationContext
 import org.springframework.context.event.ContextRefreshedEvent
 import spock.lang.Specification
+import springfox.documentation.builders.DocumentationBuilder
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.schema.configuration.PluginTimings
 import springfox.documentation.service.Documentation
 import springfox.documentation.spi.DocumentationType
 import springfox.documentation.spi.service.DocumentationPlugin
 import springfox.documentation.spi.service.RequestHandlerProvider
 import springfox.documentation.spi.service.contexts.Defaults
+import springfox.documentation.spi.service.contexts.DocumentationContext
 import springfox.documentation.spi.service.contexts.DocumentationContextBuilder
 import springfox.documentation.spring.web.DocumentationCache
+import springfox.documentation.spring.web.DocumentationSnapshots
 import springfox.documentation.spring.web.scanners.ApiDocumentationScanner
+import springfox.documentation.spring.web.scanners.OperationReadingOrder
 
 import javax.servlet.ServletContext
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
 
 class DocumentationPluginsBootstrapperSpec extends Specification {
 
@@ -41,15 +49,19 @@ class DocumentationPluginsBootstrapperSpec extends Specification {
     Documentation group = Mock(Documentation)
     ApiDocumentationScanner apiGroup = Mock(ApiDocumentationScanner)
     RequestHandlerProvider handlerProvider = Mock(RequestHandlerProvider)
+    BootstrapMode mode = new BootstrapMode()
 
     ContextRefreshedEvent contextRefreshedEvent = new ContextRefreshedEvent(applicationContext)
     DocumentationPluginsBootstrapper bootstrapper =
             new DocumentationPluginsBootstrapper(pluginManager,
                     handlerProvider,
                     new DocumentationCache(),
+                    new DocumentationSnapshots(),
+                    new CacheRegistry(),
+                    new PluginTimings(),
                     apiGroup,
                     new TypeResolver(),
-                    new Defaults(), Mock(ServletContext))
+                    new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
 
     def setup() {
         pluginManager.createContextBuilder(_, _) >> new DocumentationContextBuilder(DocumentationType.SWAGGER_12)
@@ -94,4 +106,262 @@ class DocumentationPluginsBootstrapperSpec extends Specification {
         then:
         1 * plugin.configure(_)
     }
+
+    def "Documentation groups scanned in parallel are published in plugin order"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        mode.parallelism = 3
+        and:
+        def groups = (1..6).collect { "group$it" }
+        pluginManager.documentationPlugins() >> groups.collect { enabledPlugin(it) }
+        scanner.scan(_) >> { DocumentationContext context ->
+            new DocumentationBuilder().name(context.groupName).build()
+        }
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+
+        then:
+        cache.all().keySet() as List == groups
+    }
+
+    def "Documentation groups are scanned on first access when bootstrapping lazily"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        mode.lazy = true
+        and:
+        pluginManager.documentationPlugins() >> [enabledPlugin("first"), enabledPlugin("second")]
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        0 * scanner.scan(_)
+        cache.groupNames() == ["first", "second"] as Set
+
+        when: "the groups before it are scanned first, since operation ids depend on them"
+        def documentation = cache.documentationByGroup("second")
+        then:
+        1 * scanner.scan({ it.groupName == "first" }) >> new DocumentationBuilder().name("first").build()
+        then:
+        1 * scanner.scan({ it.groupName == "second" }) >> new DocumentationBuilder().name("second").build()
+        documentation.groupName == "second"
+
+        when:
+        cache.documentationByGroup("first")
+        then:
+        0 * scanner.scan(_)
+    }
+
+    def "Documentation is scanned in the background when bootstrapping asynchronously"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        mode.async = true
+        and:
+        def scanning = new CountDownLatch(1)
+        pluginManager.documentationPlugins() >> [enabledPlugin("background")]
+        scanner.scan(_) >> { DocumentationContext context ->
+            scanning.await()
+            new DocumentationBuilder().name(context.groupName).build()
+        }
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        !cache.isReady()
+
+        when:
+        scanning.countDown()
+        cache.whenReady().get(5, TimeUnit.SECONDS)
+        then:
+        cache.isReady()
+        cache.documentationByGroup("background") != null
+    }
+
+    def "Lazy bootstrapping takes precedence over asynchronous bootstrapping"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        mode.async = true
+        mode.lazy = true
+        and:
+        pluginManager.documentationPlugins() >> [enabledPlugin("deferred")]
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        0 * scanner.scan(_)
+        cache.isReady()
+        cache.groupNames() == ["deferred"] as Set
+    }
+
+    def "Documentation groups restored from a snapshot are only scanned on first access"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def snapshots = Mock(DocumentationSnapshots)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                snapshots,
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        and:
+        pluginManager.documentationPlugins() >> [enabledPlugin("changed"), enabledPlugin("restored")]
+        snapshots.restore({ it.groupName == "restored" }) >> true
+        snapshots.restore({ it.groupName == "changed" }) >> false
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        1 * scanner.scan({ it.groupName == "changed" }) >> new DocumentationBuilder().name("changed").build()
+        0 * scanner.scan({ it.groupName == "restored" })
+        cache.groupNames() == ["changed", "restored"] as Set
+    }
+
+    def "Documentation groups restored from a snapshot are scanned when a group after them has to be scanned"() {
+        given:
+        def scanner = Mock(ApiDocumentationScanner)
+        def snapshots = Mock(DocumentationSnapshots)
+        def cache = new DocumentationCache()
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                cache,
+                snapshots,
+                new CacheRegistry(),
+                new PluginTimings(),
+                scanner,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        and:
+        pluginManager.documentationPlugins() >> [enabledPlugin("restored"), enabledPlugin("changed")]
+        snapshots.restore({ it.groupName == "restored" }) >> true
+        snapshots.restore({ it.groupName == "changed" }) >> false
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        1 * scanner.scan({ it.groupName == "restored" }) >> new DocumentationBuilder().name("restored").build()
+        then:
+        1 * scanner.scan({ it.groupName == "changed" }) >> new DocumentationBuilder().name("changed").build()
+        cache.groupNames() == ["restored", "changed"] as Set
+    }
+
+    def enabledPlugin(String groupName) {
+        DocumentationContext context = Mock(DocumentationContext)
+        context.groupName >> groupName
+        context.cacheSpecifications >> [:]
+        DocumentationPlugin plugin = Mock(DocumentationPlugin)
+        plugin.groupName >> groupName
+        plugin.documentationType >> DocumentationType.SWAGGER_12
+        plugin.isEnabled() >> true
+        plugin.configure(_) >> context
+        plugin
+    }
+
+    def "Cache statistics are published once the documentation is scanned"() {
+        given:
+        def caches = Mock(CacheRegistry)
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                new DocumentationCache(),
+                new DocumentationSnapshots(),
+                caches,
+                new PluginTimings(),
+                apiGroup,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        and:
+        pluginManager.documentationPlugins() >> []
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        1 * caches.publishStatistics()
+    }
+
+    def "Cache specifications of the dockets are applied before the documentation is scanned"() {
+        given:
+        def caches = Mock(CacheRegistry)
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                new DocumentationCache(),
+                new DocumentationSnapshots(),
+                caches,
+                new PluginTimings(),
+                apiGroup,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        and:
+        pluginManager.documentationPlugins() >> [enabledPlugin("group")]
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        1 * caches.configure("group", [:])
+        then:
+        1 * apiGroup.scan(_) >> group
+    }
+
+    def "Plugin timings are published once the documentation is scanned"() {
+        given:
+        def timings = Mock(PluginTimings)
+        def sut = new DocumentationPluginsBootstrapper(pluginManager,
+                handlerProvider,
+                new DocumentationCache(),
+                new DocumentationSnapshots(),
+                new CacheRegistry(),
+                timings,
+                apiGroup,
+                new TypeResolver(),
+                new Defaults(), Mock(ServletContext), mode, new OperationReadingOrder())
+        and:
+        pluginManager.documentationPlugins() >> []
+
+        when:
+        sut.onApplicationEvent(contextRefreshedEvent)
+        then:
+        1 * timings.publish()
+    }
 }
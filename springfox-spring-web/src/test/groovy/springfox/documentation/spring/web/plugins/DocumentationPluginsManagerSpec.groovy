@@ -124,6 +124,22 @@ class DocumentationPluginsManagerSpec extends Specification {
         operationPlugin.apply(operationContext)
     }
 
+    def "Operation plugins are resolved once per documentation type"() {
+        given:
+        def operationPlugin = Mock(OperationBuilderPlugin)
+        def operationContext = Mock(OperationContext)
+        and:
+        operationContext.operationBuilder() >> new OperationBuilder(new CachingOperationNameGenerator())
+        operationContext.getDocumentationType() >> DocumentationType.SWAGGER_2
+        def sut = customWebPlugins([], [], [operationPlugin])
+        when:
+        sut.operation(operationContext)
+        sut.operation(operationContext)
+        then:
+        1 * operationPlugin.supports(DocumentationType.SWAGGER_2) >> true
+        2 * operationPlugin.apply(operationContext)
+    }
+
     def "Even when no parameter plugins are applied an empty operation is returned"() {
         given:
         def paramContext = Mock(ParameterContext)
@@ -246,6 +246,23 @@ class ApiModelReaderSpec extends DocumentationContextSpec {
 
     }
 
+    def "Merging models read independently is the same as reading them with known models"() {
+        given:
+        RequestMappingContext first = context(dummyHandlerMethod('methodWithConcreteResponseBody'))
+        RequestMappingContext second = context(dummyHandlerMethod('methodWithSerializeOnlyPropInReturnAndRequestBodyParam',
+                DummyModels.ModelWithSerializeOnlyProperty))
+
+        when:
+        def sequential = sut.read(second.withKnownModels(sut.read(first)))
+        and:
+        def merged = sut.read(first)
+        sut.merge(merged, sut.read(second))
+
+        then:
+        merged.keySet() == sequential.keySet()
+        merged.every { name, model -> model.properties.keySet() == sequential[name].properties.keySet() }
+    }
+
     def "Test to verify issue #283"() {
         given:
         HandlerMethod handlerMethod = dummyHandlerMethod('methodToTestFoobarDto', FoobarDto)
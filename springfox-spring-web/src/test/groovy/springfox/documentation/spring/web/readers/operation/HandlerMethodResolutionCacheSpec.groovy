@@ -0,0 +1,89 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.readers.operation
+
+import com.fasterxml.classmate.TypeResolver
+import org.springframework.mock.env.MockEnvironment
+import spock.lang.Specification
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.schema.property.MemberResolutionCache
+import springfox.documentation.spring.web.mixins.HandlerMethodsSupport
+
+class HandlerMethodResolutionCacheSpec extends Specification implements HandlerMethodsSupport {
+    def typeResolver = new TypeResolver()
+    def members = new MemberResolutionCache(typeResolver)
+    def sut = new HandlerMethodResolutionCache()
+
+    def "Handler methods are resolved once and shared by all the resolvers"() {
+        given:
+        def handlerMethod = methodWithChild()
+
+        when:
+        def parameters = resolver().methodParameters(handlerMethod)
+        def returnType = resolver().methodReturnType(handlerMethod)
+        def method = resolver().resolvedMethod(handlerMethod)
+
+        then:
+        sut.stats().missCount() == 1
+        sut.stats().hitCount() == 2
+        and:
+        parameters*.resolvedParameterType*.erasedType*.simpleName.sort() == ["Child", "Integer"]
+        returnType.erasedType == void
+        method.get().rawMember == handlerMethod.method
+    }
+
+    def "Handler methods of the same method share the resolved types but keep their own method parameters"() {
+        when:
+        def first = resolver().methodParameters(methodWithChild())
+        def second = resolver().methodParameters(methodWithChild())
+
+        then:
+        first*.resolvedParameterType == second*.resolvedParameterType
+        !first.first().methodParameter.is(second.first().methodParameter)
+        sut.stats().missCount() == 1
+    }
+
+    def "Overloaded methods are resolved separately"() {
+        when:
+        resolver().methodReturnType(methodWithChild())
+        resolver().methodReturnType(methodWithParent())
+
+        then:
+        sut.stats().missCount() == 2
+    }
+
+    def "Handler methods are cached as a named cache of the registry"() {
+        given:
+        def caches = new CacheRegistry(new MockEnvironment()
+                .withProperty("springfox.documentation.cache.handler-methods.enabled", "false"))
+        sut = new HandlerMethodResolutionCache(caches)
+
+        when:
+        resolver().methodReturnType(methodWithChild())
+        resolver().methodReturnType(methodWithChild())
+
+        then:
+        sut.stats().missCount() == 2
+    }
+
+    def resolver() {
+        new HandlerMethodResolver(typeResolver, members, sut)
+    }
+}
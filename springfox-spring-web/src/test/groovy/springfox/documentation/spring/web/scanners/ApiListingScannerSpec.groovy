@@ -19,18 +19,27 @@
 
 package springfox.documentation.spring.web.scanners
 
+import com.fasterxml.classmate.TypeResolver
+import com.google.common.base.Function
 import com.google.common.collect.Multimap
 import com.google.common.collect.Multimap
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo
 import spock.lang.Unroll
 import spock.lang.Unroll
+import springfox.documentation.builders.ModelBuilder
+import springfox.documentation.builders.ModelPropertyBuilder
+import springfox.documentation.schema.ModelRef
+import springfox.documentation.schema.configuration.CacheRegistry
 import springfox.documentation.schema.mixins.SchemaPluginsSupport
 import springfox.documentation.schema.mixins.SchemaPluginsSupport
 import springfox.documentation.service.ApiListing
 import springfox.documentation.service.ApiListing
 import springfox.documentation.service.ResourceGroup
 import springfox.documentation.service.ResourceGroup
+import springfox.documentation.spi.DocumentationType
+import springfox.documentation.spi.service.ApiListingBuilderPlugin
+import springfox.documentation.spi.service.contexts.ApiListingContext
 import springfox.documentation.spi.service.contexts.RequestMappingContext
 import springfox.documentation.spi.service.contexts.SecurityContext
 import springfox.documentation.spi.service.contexts.SecurityContext
@@ -57,6 +66,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE
 import static org.springframework.http.MediaType.APPLICATION_XML_VALUE
 import static springfox.documentation.builders.PathSelectors.*
 import static ApiListingScanner.*
+import static org.springframework.plugin.core.OrderAwarePluginRegistry.create
 import static springfox.documentation.builders.PathSelectors.regex
 import static springfox.documentation.spring.web.scanners.ApiListingScanner.longestCommonPath
 
@@ -82,6 +92,7 @@ class ApiListingScannerSpec extends DocumentationContextSpec {
         apiDescriptionReader.read(_) >> []
         apiModelReader = Mock(ApiModelReader)
         apiModelReader.read(_) >> newHashMap()
+        apiModelReader.modelMapBuilder() >> { new ModelMapBuilder() }
         scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, defaultWebPlugins())
     }
 
@@ -128,6 +139,162 @@ class ApiListingScannerSpec extends DocumentationContextSpec {
         listings.first().getSecurityReferences().size() == 0
     }
 
+    def "Models read in parallel are merged on the scanning thread"() {
+        given:
+        RequestMappingInfo requestMappingInfo = requestMappingInfo("/businesses")
+
+        def context = context()
+        RequestMappingContext requestMappingContext = new RequestMappingContext(context, requestMappingInfo,
+                dummyHandlerMethod("methodWithConcreteResponseBody"))
+        def resourceGroupRequestMappings = newHashMap()
+        resourceGroupRequestMappings.put(new ResourceGroup("businesses", DummyClass), [requestMappingContext])
+        listingContext = new ApiListingScanningContext(context, resourceGroupRequestMappings)
+        and:
+        scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, defaultWebPlugins(), new ScanProfiler(),
+                new CanonicalModels(new CacheRegistry()), parallel(4))
+
+        when:
+        def scanned = scanner.scan(listingContext)
+
+        then:
+        1 * apiModelReader.merge(_, _)
+        and:
+        scanned.get("businesses").size() == 1
+    }
+
+    def "Models read in parallel are profiled once and their merging is profiled separately"() {
+        given:
+        def profiler = new ScanProfiler()
+        profiler.enabled = true
+        scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, defaultWebPlugins(), profiler,
+                new CanonicalModels(new CacheRegistry()), parallel(4))
+        and:
+        def context = context()
+        RequestMappingContext requestMappingContext = new RequestMappingContext(context,
+                requestMappingInfo("/businesses"), dummyHandlerMethod("methodWithConcreteResponseBody"))
+        def resourceGroupRequestMappings = newHashMap()
+        resourceGroupRequestMappings.put(new ResourceGroup("businesses", DummyClass), [requestMappingContext])
+
+        when:
+        scanner.scan(new ApiListingScanningContext(context, resourceGroupRequestMappings))
+
+        then:
+        def phases = profiler.report().groups.first().phases
+        phases[ScanProfiler.MODEL_READING].invocations == 1
+        phases[ScanProfiler.MODEL_MERGING].invocations == 1
+        phases[ScanProfiler.OPERATION_READING].invocations == 1
+    }
+
+    def "Phases that fail are still profiled"() {
+        given:
+        def profiler = new ScanProfiler()
+        profiler.enabled = true
+        scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, defaultWebPlugins(), profiler)
+        apiModelReader.read(_, _) >> { throw new IllegalStateException("Unreadable model") }
+        and:
+        def context = context()
+        RequestMappingContext requestMappingContext = new RequestMappingContext(context,
+                requestMappingInfo("/businesses"), dummyHandlerMethod("methodWithConcreteResponseBody"))
+        def resourceGroupRequestMappings = newHashMap()
+        resourceGroupRequestMappings.put(new ResourceGroup("businesses", DummyClass), [requestMappingContext])
+
+        when:
+        scanner.scan(new ApiListingScanningContext(context, resourceGroupRequestMappings))
+
+        then:
+        thrown(IllegalStateException)
+        profiler.report().groups.first().phases[ScanProfiler.MODEL_READING].invocations == 1
+    }
+
+    def "Models are shared across groups only once the api listing plugins of each group have run"() {
+        given:
+        def readProperties = []
+        apiModelReader.read(_, _) >> { RequestMappingContext mapping, ModelMapBuilder models ->
+            def property = new ModelPropertyBuilder()
+                    .name("name")
+                    .type(new TypeResolver().resolve(String))
+                    .qualifiedType("java.lang.String")
+                    .position(0)
+                    .required(true)
+                    .description("A name")
+                    .build()
+                    .updateModelRef({ new ModelRef("string") } as Function)
+            readProperties << property
+            models.merge(new ModelBuilder()
+                    .id("Pet")
+                    .name("Pet")
+                    .type(new TypeResolver().resolve(String))
+                    .qualifiedType("com.example.Pet")
+                    .properties([name: property])
+                    .build())
+        }
+        and: "the api listing plugin of the first group mutates a property"
+        def mutating = [
+                apply   : { ApiListingContext listing ->
+                    if (readProperties.size() == 1) {
+                        readProperties.first().updateModelRef({ new ModelRef("Name") } as Function)
+                    }
+                },
+                supports: { DocumentationType type -> true }] as ApiListingBuilderPlugin
+        def plugins = defaultWebPlugins()
+        plugins.apiListingPlugins = create([mutating])
+        scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, plugins)
+
+        when:
+        def first = scanGroup("first")
+        def second = scanGroup("second")
+        def third = scanGroup("third")
+
+        then:
+        first.properties["name"].modelRef.type == "Name"
+        second.properties["name"].modelRef.type == "string"
+        !first.is(second)
+        and:
+        third.is(second)
+    }
+
+    def "Scans share the threads of the scan executor"() {
+        given:
+        def executor = parallel(2)
+        scanner = new ApiListingScanner(apiDescriptionReader, apiModelReader, defaultWebPlugins(), new ScanProfiler(),
+                new CanonicalModels(new CacheRegistry()), executor)
+        def threads = [] as Set
+
+        when:
+        scanGroup("first")
+        scanGroup("second")
+        then:
+        2 * apiModelReader.read(_) >> {
+            threads << Thread.currentThread().name
+            newHashMap()
+        }
+        !threads.isEmpty()
+        threads.every { it.startsWith("springfox-scanner-") }
+
+        when:
+        def shared = executor.executor()
+        executor.destroy()
+        then:
+        shared.isShutdown()
+    }
+
+    def parallel(int parallelism) {
+        def executor = new ScanExecutor()
+        executor.parallelism = parallelism
+        executor
+    }
+
+    def scanGroup(String groupName) {
+        plugin.groupName(groupName)
+        def context = context()
+        def requestMappingContext = new RequestMappingContext(context, requestMappingInfo("/businesses"),
+                dummyHandlerMethod("methodWithConcreteResponseBody"))
+        def resourceGroupRequestMappings = newHashMap()
+        resourceGroupRequestMappings.put(new ResourceGroup("businesses", DummyClass), [requestMappingContext])
+        scanner.scan(new ApiListingScanningContext(context, resourceGroupRequestMappings))
+                .get("businesses").first().models["Pet"]
+    }
+
     @Unroll
     def "should find longest common path"() {
         given:
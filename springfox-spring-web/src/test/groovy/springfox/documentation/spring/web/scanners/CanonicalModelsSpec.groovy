@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners
+
+import com.fasterxml.classmate.TypeResolver
+import com.google.common.base.Function
+import spock.lang.Specification
+import springfox.documentation.builders.ModelBuilder
+import springfox.documentation.builders.ModelPropertyBuilder
+import springfox.documentation.schema.Model
+import springfox.documentation.schema.ModelRef
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.service.AllowableListValues
+
+class CanonicalModelsSpec extends Specification {
+    def resolver = new TypeResolver()
+    def sut = new CanonicalModels(new CacheRegistry())
+
+    def "Structurally equivalent models are replaced by a single instance"() {
+        given:
+        def first = model("Money", "An amount")
+        def second = model("Money", "An amount")
+
+        when:
+        def canonicalFirst = sut.canonical(first)
+        def canonicalSecond = sut.canonical(second)
+
+        then:
+        canonicalFirst.is(canonicalSecond)
+        canonicalFirst.properties.keySet() == first.properties.keySet()
+    }
+
+    def "Models that differ are kept apart but share their equivalent properties"() {
+        when:
+        def first = sut.canonical(model("Money", "An amount"))
+        def second = sut.canonical(model("Money", "A price"))
+
+        then:
+        !first.is(second)
+        first.properties.currency.is(second.properties.currency)
+    }
+
+    def "Properties with different allowable values are not equivalent"() {
+        given:
+        def first = property("currency", ["EUR"])
+        def second = property("currency", ["USD"])
+
+        expect:
+        !sut.canonical(first).is(sut.canonical(second))
+        sut.canonical(property("currency", ["EUR"])).is(sut.canonical(first))
+    }
+
+    Model model(String name, String description) {
+        new ModelBuilder()
+                .id(name)
+                .name(name)
+                .type(resolver.resolve(String))
+                .qualifiedType("com.example.${name}")
+                .description(description)
+                .properties([currency: property("currency", ["EUR", "USD"])])
+                .build()
+    }
+
+    def property(String name, List<String> allowed) {
+        new ModelPropertyBuilder()
+                .name(name)
+                .type(resolver.resolve(String))
+                .qualifiedType("java.lang.String")
+                .position(0)
+                .required(true)
+                .description("Currency code")
+                .allowableValues(new AllowableListValues(allowed, "LIST"))
+                .build()
+                .updateModelRef({ new ModelRef("string") } as Function)
+    }
+}
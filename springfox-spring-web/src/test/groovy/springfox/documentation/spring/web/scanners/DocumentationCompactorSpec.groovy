@@ -0,0 +1,160 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners
+
+import com.google.common.collect.ImmutableList
+import com.google.common.collect.ImmutableSet
+import com.google.common.collect.LinkedListMultimap
+import org.springframework.http.HttpMethod
+import spock.lang.Specification
+import springfox.documentation.builders.ApiListingBuilder
+import springfox.documentation.builders.DocumentationBuilder
+import springfox.documentation.builders.OperationBuilder
+import springfox.documentation.builders.ParameterBuilder
+import springfox.documentation.builders.ResourceListingBuilder
+import springfox.documentation.builders.ResponseMessageBuilder
+import springfox.documentation.schema.ModelRef
+import springfox.documentation.schema.configuration.CacheRegistry
+import springfox.documentation.service.ApiDescription
+import springfox.documentation.service.ApiListing
+import springfox.documentation.service.Documentation
+import springfox.documentation.spi.service.contexts.Defaults
+import springfox.documentation.spring.web.readers.operation.CachingOperationNameGenerator
+
+class DocumentationCompactorSpec extends Specification {
+    def sut = new DocumentationCompactor(new CacheRegistry())
+
+    def "Documentation is left as is unless compacting is enabled"() {
+        given:
+        def documentation = documentation("group")
+
+        expect:
+        sut.compact(documentation).is(documentation)
+    }
+
+    def "Equivalent parameters and response messages are shared across groups"() {
+        given:
+        sut.enabled = true
+
+        when:
+        def first = operation(sut.compact(documentation("first")))
+        def second = operation(sut.compact(documentation("second")))
+
+        then:
+        first.parameters.first().is(second.parameters.first())
+        first.responseMessages.first().is(second.responseMessages.first())
+        first.responseModel.is(second.responseModel)
+        first.parameters.first().modelRef.is(first.responseModel)
+    }
+
+    def "Strings are interned and collections are immutable"() {
+        given:
+        sut.enabled = true
+
+        when:
+        def first = operation(sut.compact(documentation("first")))
+        def second = operation(sut.compact(documentation("second")))
+
+        then:
+        first.produces.first().is(second.produces.first())
+        first.produces instanceof ImmutableSet
+        first.parameters instanceof ImmutableList
+        first.responseMessages instanceof ImmutableSet
+    }
+
+    def "The compact documentation describes the same operations"() {
+        given:
+        sut.enabled = true
+        def documentation = documentation("group")
+
+        when:
+        def compacted = sut.compact(documentation)
+
+        then:
+        compacted.groupName == documentation.groupName
+        compacted.apiListings.keySet() == documentation.apiListings.keySet()
+        with(operation(compacted)) {
+            method == operation(documentation).method
+            uniqueId == operation(documentation).uniqueId
+            parameters*.name == operation(documentation).parameters*.name
+            parameters*.required == operation(documentation).parameters*.required
+            parameters*.allowMultiple == operation(documentation).parameters*.allowMultiple
+            responseMessages*.code == operation(documentation).responseMessages*.code
+            produces == operation(documentation).produces
+            securityReferences == operation(documentation).securityReferences
+        }
+    }
+
+    def "Listings without security references or models are compacted"() {
+        given:
+        sut.enabled = true
+        def listings = LinkedListMultimap.create()
+        listings.put("pets", new ApiListing("1.0", "/", "/pets", null, null, null, null, null,
+                [new ApiDescription("/pets", "Pets", [], false)], null, "Pets", 0, null))
+        def documentation = new DocumentationBuilder()
+                .name("group")
+                .apiListingsByResourceGroupName(listings)
+                .resourceListing(new ResourceListingBuilder().apiVersion("1.0").build())
+                .build()
+
+        when:
+        def listing = sut.compact(documentation).apiListings.values().first()
+
+        then:
+        listing.securityReferences == null
+        listing.models == null
+        listing.apis*.path == ["/pets"]
+    }
+
+    def operation(Documentation documentation) {
+        documentation.apiListings.values().first().apis.first().operations.first()
+    }
+
+    Documentation documentation(String groupName) {
+        def operation = new OperationBuilder(new CachingOperationNameGenerator())
+                .method(HttpMethod.GET)
+                .uniqueId("findPets")
+                .produces(["application/" + "json"] as Set)
+                .parameters([new ParameterBuilder()
+                        .name("page")
+                        .description("The page")
+                        .parameterType("query")
+                        .modelRef(new ModelRef("int"))
+                        .build()])
+                .responseMessages([new ResponseMessageBuilder()
+                        .code(200)
+                        .message("OK")
+                        .responseModel(new ModelRef("int"))
+                        .build()] as Set)
+                .responseModel(new ModelRef("int"))
+                .build()
+        def listing = new ApiListingBuilder(new Defaults().apiDescriptionOrdering())
+                .apis([new ApiDescription("/pets", "Pets", [operation], false)])
+                .produces(["application/json"] as Set)
+                .build()
+        def listings = LinkedListMultimap.create()
+        listings.put("pets", listing)
+        new DocumentationBuilder()
+                .name(groupName)
+                .apiListingsByResourceGroupName(listings)
+                .resourceListing(new ResourceListingBuilder().apiVersion("1.0").build())
+                .build()
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners
+
+import com.fasterxml.classmate.TypeResolver
+import com.google.common.base.Function
+import spock.lang.Specification
+import springfox.documentation.builders.ModelBuilder
+import springfox.documentation.builders.ModelPropertyBuilder
+import springfox.documentation.schema.Model
+import springfox.documentation.schema.ModelProperty
+import springfox.documentation.schema.ModelRef
+
+class ModelMapBuilderSpec extends Specification {
+    def resolver = new TypeResolver()
+    def sut = new ModelMapBuilder()
+
+    def "Unknown models are added as they are read"() {
+        when:
+        sut.merge(model("Pet", "name")).merge(model("Owner", "name"))
+
+        then:
+        sut.knownModels().keySet() == ["Pet", "Owner"] as Set
+        sut.build().keySet() == ["Pet", "Owner"] as Set
+    }
+
+    def "Missing properties of known models are collected and the model is rebuilt once"() {
+        given:
+        def pet = model("Pet", "name")
+        sut.merge(pet)
+
+        when:
+        sut.merge(model("Pet", "name", "age"))
+        sut.merge(model("Pet", "tag"))
+
+        then:
+        sut.knownModels()["Pet"].properties.keySet() == ["name"] as Set
+        and:
+        def built = sut.build()
+        built["Pet"].properties.keySet() == ["name", "age", "tag"] as Set
+        built["Pet"].description == pet.description
+    }
+
+    def "Properties already known are never overwritten"() {
+        given:
+        def pet = model("Pet", "name")
+        sut.merge(pet)
+
+        when:
+        sut.merge(model("Pet", "name", "age"))
+
+        then:
+        sut.build()["Pet"].properties["name"].is(pet.properties["name"])
+    }
+
+    def "Known models are not modified by the models merged into them"() {
+        given:
+        def known = [Pet: model("Pet", "name")]
+
+        when:
+        def built = new ModelMapBuilder(known)
+                .merge(model("Pet", "age"))
+                .build()
+
+        then:
+        known["Pet"].properties.keySet() == ["name"] as Set
+        built["Pet"].properties.keySet() == ["name", "age"] as Set
+    }
+
+    def "The known models view is read only"() {
+        when:
+        sut.knownModels().put("Pet", model("Pet", "name"))
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    Model model(String name, String... properties) {
+        Map<String, ModelProperty> modelProperties = properties.collectEntries { [(it): property(it)] }
+        new ModelBuilder()
+                .id(name)
+                .name(name)
+                .type(resolver.resolve(String))
+                .qualifiedType("com.example.${name}")
+                .description("A ${name}")
+                .properties(modelProperties)
+                .build()
+    }
+
+    def property(String name) {
+        new ModelPropertyBuilder()
+                .name(name)
+                .type(resolver.resolve(String))
+                .qualifiedType("java.lang.String")
+                .position(0)
+                .required(true)
+                .description(name)
+                .build()
+                .updateModelRef({ new ModelRef("string") } as Function)
+    }
+}
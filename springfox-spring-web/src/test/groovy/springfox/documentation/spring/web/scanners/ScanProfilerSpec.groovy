@@ -0,0 +1,86 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.spring.web.scanners
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.common.io.Files
+import spock.lang.Specification
+import springfox.documentation.spring.web.dummy.DummyClass
+import springfox.documentation.spring.web.mixins.RequestMappingSupport
+
+import static springfox.documentation.spring.web.scanners.ScanProfiler.*
+
+@Mixin([RequestMappingSupport])
+class ScanProfilerSpec extends Specification {
+    def sut = new ScanProfiler()
+
+    def "Nothing is recorded unless profiling is enabled"() {
+        when:
+        sut.start("group", MODEL_READING, dummyHandlerMethod()).stop()
+
+        then:
+        sut.report().groups.isEmpty()
+    }
+
+    def "Phases are recorded per group and attributed to controllers and handler methods"() {
+        given:
+        sut.enabled = true
+
+        when:
+        sut.start("group", REFERENCE_SCANNING).stop()
+        sut.start("group", MODEL_READING, dummyHandlerMethod()).stop()
+        sut.start("group", MODEL_READING, dummyHandlerMethod("methodWithConcreteResponseBody")).stop()
+        sut.start("group", OPERATION_READING, dummyHandlerMethod()).stop()
+        sut.start("other", RESOURCE_LISTING).stop()
+
+        then:
+        def groups = sut.report().groups
+        groups.size() == 2
+
+        and:
+        def group = groups.find { it.group == "group" }
+        group.phases.keySet() as List == [REFERENCE_SCANNING, MODEL_READING, OPERATION_READING]
+        group.phases[MODEL_READING].invocations == 2
+        group.controllers.size() == 1
+        group.controllers.first().controller == DummyClass.name
+        group.controllers.first().invocations == 3
+        group.controllers.first().handlerMethods*.method as Set == ["dummyMethod()", "methodWithConcreteResponseBody()"] as Set
+
+        and:
+        groups.find { it.group == "other" }.controllers.isEmpty()
+    }
+
+    def "The report is written to the report file"() {
+        given:
+        def reportFile = new File(Files.createTempDir(), "profile/scan.json")
+        sut.enabled = true
+        sut.reportFile = reportFile.absolutePath
+
+        when:
+        sut.start("group", OPERATION_READING, dummyHandlerMethod()).stop()
+        sut.publish()
+
+        then:
+        def report = new ObjectMapper().readValue(reportFile, Map)
+        report.groups.first().group == "group"
+        report.groups.first().phases[OPERATION_READING].invocations == 1
+        report.groups.first().controllers.first().handlerMethods.first().method == "dummyMethod()"
+    }
+}
@@ -51,10 +51,16 @@ public class SwaggerOperationModelsProvider implements OperationModelsProviderPl
 
     private static final Logger LOG = LoggerFactory.getLogger(SwaggerOperationModelsProvider.class);
     private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
 
-    @Autowired
     public SwaggerOperationModelsProvider(TypeResolver typeResolver) {
+        this(typeResolver, new HandlerMethodResolver(typeResolver));
+    }
+
+    @Autowired
+    public SwaggerOperationModelsProvider(TypeResolver typeResolver, HandlerMethodResolver handlerMethodResolver) {
         this.typeResolver = typeResolver;
+        this.handlerMethodResolver = handlerMethodResolver;
     }
 
     @Override
@@ -70,7 +76,7 @@ public class SwaggerOperationModelsProvider implements OperationModelsProviderPl
 
     private void collectFromApiOperation(RequestMappingContext context) {
         HandlerMethod handlerMethod = context.getHandlerMethod();
-        ResolvedType returnType = new HandlerMethodResolver(typeResolver).methodReturnType(handlerMethod);
+        ResolvedType returnType = handlerMethodResolver.methodReturnType(handlerMethod);
         returnType = context.alternateFor(returnType);
         Optional<ResolvedType> returnParameter = findApiOperationAnnotation(handlerMethod.getMethod())
                 .transform(resolvedTypeFromOperation(typeResolver, returnType));
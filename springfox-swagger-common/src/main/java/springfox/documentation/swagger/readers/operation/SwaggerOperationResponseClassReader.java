@@ -46,19 +46,27 @@ public class SwaggerOperationResponseClassReader implements OperationBuilderPlug
     private static Logger log = LoggerFactory.getLogger(SwaggerOperationResponseClassReader.class);
     private final TypeResolver typeResolver;
     private final TypeNameExtractor nameExtractor;
+    private final HandlerMethodResolver handlerMethodResolver;
 
-    @Autowired
     public SwaggerOperationResponseClassReader(TypeResolver typeResolver,
                                                TypeNameExtractor nameExtractor) {
+        this(typeResolver, nameExtractor, new HandlerMethodResolver(typeResolver));
+    }
+
+    @Autowired
+    public SwaggerOperationResponseClassReader(TypeResolver typeResolver,
+                                               TypeNameExtractor nameExtractor,
+                                               HandlerMethodResolver handlerMethodResolver) {
         this.typeResolver = typeResolver;
         this.nameExtractor = nameExtractor;
+        this.handlerMethodResolver = handlerMethodResolver;
     }
 
     @Override
     public void apply(OperationContext context) {
 
         HandlerMethod handlerMethod = context.getHandlerMethod();
-        ResolvedType returnType = new HandlerMethodResolver(typeResolver).methodReturnType(handlerMethod);
+        ResolvedType returnType = handlerMethodResolver.methodReturnType(handlerMethod);
         returnType = context.alternateFor(returnType);
         returnType = findApiOperationAnnotation(handlerMethod.getMethod())
                 .transform(resolvedTypeFromOperation(typeResolver, returnType))
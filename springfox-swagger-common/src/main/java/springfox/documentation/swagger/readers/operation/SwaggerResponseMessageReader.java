@@ -56,11 +56,19 @@ public class SwaggerResponseMessageReader implements OperationBuilderPlugin {
 
     private final TypeNameExtractor typeNameExtractor;
     private final TypeResolver typeResolver;
+    private final HandlerMethodResolver handlerMethodResolver;
 
-    @Autowired
     public SwaggerResponseMessageReader(TypeNameExtractor typeNameExtractor, TypeResolver typeResolver) {
+        this(typeNameExtractor, typeResolver, new HandlerMethodResolver(typeResolver));
+    }
+
+    @Autowired
+    public SwaggerResponseMessageReader(TypeNameExtractor typeNameExtractor,
+                                        TypeResolver typeResolver,
+                                        HandlerMethodResolver handlerMethodResolver) {
         this.typeNameExtractor = typeNameExtractor;
         this.typeResolver = typeResolver;
+        this.handlerMethodResolver = handlerMethodResolver;
     }
 
     @Override
@@ -77,7 +85,7 @@ public class SwaggerResponseMessageReader implements OperationBuilderPlugin {
     }
 
     protected Set<ResponseMessage> read(HandlerMethod handlerMethod, OperationContext context) {
-        ResolvedType defaultResponse = new HandlerMethodResolver(typeResolver).methodReturnType(handlerMethod);
+        ResolvedType defaultResponse = handlerMethodResolver.methodReturnType(handlerMethod);
         Optional<ResolvedType> operationResponse = findApiOperationAnnotation(handlerMethod.getMethod())
                 .transform(resolvedTypeFromOperation(typeResolver, defaultResponse));
         Optional<ApiResponses> apiResponses = findApiResponsesAnnotations(handlerMethod.getMethod());
@@ -27,14 +27,14 @@ import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import springfox.documentation.annotations.ApiIgnore;
-import springfox.documentation.service.Documentation;
 import springfox.documentation.spring.web.DocumentationCache;
 import springfox.documentation.spring.web.plugins.Docket;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+
+import static springfox.documentation.spring.web.DocumentationResponses.notReady;
 
 @Controller
 @ApiIgnore
@@ -46,6 +46,9 @@ public class ApiResourceController {
     @Value("${springfox.documentation.swagger.v2.path:/v2/api-docs}")
     private String swagger2Url;
 
+    @Value("${springfox.documentation.bootstrap.retry-after:5}")
+    private int retryAfterSeconds;
+
     @Autowired
     private DocumentationCache documentationCache;
 
@@ -79,12 +82,14 @@ public class ApiResourceController {
     @RequestMapping(value = "/swagger-resources")
     @ResponseBody
     ResponseEntity<List<SwaggerResource>> swaggerResources() {
+        if (!documentationCache.isReady()) {
+            return notReady(retryAfterSeconds);
+        }
 
 
         List<SwaggerResource> resources = new ArrayList<SwaggerResource>();
 
-        for (Map.Entry<String, Documentation> entry : documentationCache.all().entrySet()) {
-            String swaggerGroup = entry.getKey();
+        for (String swaggerGroup : documentationCache.groupNames()) {
             if (swagger1Available) {
                 SwaggerResource swaggerResource = resource(swaggerGroup, swagger1Url);
                 swaggerResource.setSwaggerVersion("1.2");
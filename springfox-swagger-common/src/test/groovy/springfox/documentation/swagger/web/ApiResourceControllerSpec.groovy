@@ -1,6 +1,7 @@
 package springfox.documentation.swagger.web
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.google.common.util.concurrent.SettableFuture
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.fasterxml.jackson.databind.PropertyNamingStrategy
 import com.fasterxml.jackson.databind.PropertyNamingStrategy
@@ -77,6 +78,17 @@ class ApiResourceControllerSpec extends Specification {
                 .andExpect(content().string("[{\"name\":\"test\",\"location\":\"/v1?group=test\",\"swaggerVersion\":\"1.2\"},{\"name\":\"test\",\"location\":\"/v2?group=test\",\"swaggerVersion\":\"2.0\"}]"))
     }
 
+    def "Swagger resources are unavailable while the documentation is being scanned"() {
+        given:
+        sut.documentationCache.scanning(SettableFuture.create())
+        sut.retryAfterSeconds = 10
+        expect:
+        mockMvc.perform(get("/swagger-resources")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "10"))
+    }
+
     def "Cache is available when swagger controllers are not available"() {
         given:
         sut.swagger1Available = false
@@ -21,8 +21,13 @@ package springfox.documentation.swagger1.web;
 
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
-import com.google.common.collect.Multimap;
+import com.google.common.base.Supplier;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -30,6 +35,9 @@ import org.springframework.web.bind.annotation.*;
 import springfox.documentation.annotations.ApiIgnore;
 import springfox.documentation.service.Documentation;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationSnapshots;
+import springfox.documentation.spring.web.SerializedDocumentation;
+import springfox.documentation.spring.web.SerializedDocumentationCache;
 import springfox.documentation.spring.web.json.Json;
 import springfox.documentation.spring.web.json.JsonSerializer;
 import springfox.documentation.spring.web.plugins.Docket;
@@ -37,81 +45,178 @@ import springfox.documentation.swagger1.dto.ApiListing;
 import springfox.documentation.swagger1.dto.ResourceListing;
 import springfox.documentation.swagger1.mappers.ServiceModelToSwaggerMapper;
 
-import java.util.Collection;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
 
-import static com.google.common.collect.Multimaps.transformEntries;
-import static springfox.documentation.swagger1.mappers.Mappers.toApiListingDto;
-import static springfox.documentation.swagger1.web.ApiListingMerger.mergedApiListing;
+import static com.google.common.base.Charsets.UTF_8;
+import static springfox.documentation.spring.web.DocumentationResponses.notReady;
+import static springfox.documentation.spring.web.DocumentationResponses.serialized;
+import static springfox.documentation.swagger1.web.Swagger1DocumentationWriter.RESOURCE_LISTING;
+import static springfox.documentation.swagger1.web.Swagger1DocumentationWriter.apiDeclaration;
 
 @Controller
 @ApiIgnore
 @RequestMapping("${springfox.documentation.swagger.v1.path:/api-docs}")
 public class Swagger1Controller {
 
+    @Value("${springfox.documentation.bootstrap.retry-after:5}")
+    private int retryAfterSeconds;
+
+    @Value("${springfox.documentation.response-cache.gzip:false}")
+    private boolean gzip;
+
     @Autowired
     private DocumentationCache documentationCache;
 
+    @Autowired
+    private DocumentationSnapshots snapshots;
+
+    @Autowired
+    private SerializedDocumentationCache serializedDocumentation;
+
+    @Autowired
+    private Swagger1DocumentationWriter documentationWriter;
+
     @Autowired
     private ServiceModelToSwaggerMapper mapper;
 
     @Autowired
     private JsonSerializer jsonSerializer;
 
+    /**
+     * The serialized api declarations of each group, built once per scanned documentation. The documentation is
+     * weakly referenced, so the index of documentation that has been replaced is dropped.
+     */
+    private final LoadingCache<Documentation, Map<String, Json>> apiDeclarations = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(new CacheLoader<Documentation, Map<String, Json>>() {
+                @Override
+                public Map<String, Json> load(Documentation documentation) {
+                    ImmutableMap.Builder<String, Json> index = ImmutableMap.builder();
+                    for (Map.Entry<String, ApiListing> each
+                            : documentationWriter.apiDeclarations(documentation).entrySet()) {
+                        index.put(each.getKey(), jsonSerializer.toJson(each.getValue()));
+                    }
+                    return index.build();
+                }
+            });
+
     @ApiIgnore
     @RequestMapping(method = RequestMethod.GET)
     public
     @ResponseBody
-    ResponseEntity<Json> getResourceListing(@RequestParam(value = "group", required = false) String swaggerGroup) {
-        return getSwaggerResourceListing(swaggerGroup);
+    ResponseEntity<Json> getResourceListing(
+            @RequestParam(value = "group", required = false) String swaggerGroup,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        if (!documentationCache.isReady()) {
+            return notReady(retryAfterSeconds);
+        }
+        final String groupName = Optional.fromNullable(swaggerGroup).or(Docket.DEFAULT_GROUP_NAME);
+        return respond(String.format("swagger12:%s", groupName),
+                new Supplier<Optional<Json>>() {
+                    @Override
+                    public Optional<Json> get() {
+                        return getSwaggerResourceListing(groupName);
+                    }
+                },
+                servletRequest, servletResponse);
     }
 
     @ApiIgnore
     @RequestMapping(value = {"/{swaggerGroup}/{apiDeclaration}"}, method = RequestMethod.GET)
     public
     @ResponseBody
-    ResponseEntity<Json> getApiListing(@PathVariable String swaggerGroup, @PathVariable String apiDeclaration) {
-        return getSwaggerApiListing(swaggerGroup, apiDeclaration);
+    ResponseEntity<Json> getApiListing(
+            @PathVariable String swaggerGroup,
+            @PathVariable final String apiDeclaration,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+        if (!documentationCache.isReady()) {
+            return notReady(retryAfterSeconds);
+        }
+        final String groupName = Optional.fromNullable(swaggerGroup).or("default");
+        return respond(String.format("swagger12:%s/%s", groupName, apiDeclaration),
+                new Supplier<Optional<Json>>() {
+                    @Override
+                    public Optional<Json> get() {
+                        return getSwaggerApiListing(groupName, apiDeclaration);
+                    }
+                },
+                servletRequest, servletResponse);
     }
 
-    private ResponseEntity<Json> getSwaggerApiListing(String swaggerGroup, String apiDeclaration) {
-        String groupName = Optional.fromNullable(swaggerGroup).or("default");
-        Documentation documentation = documentationCache.documentationByGroup(groupName);
-        if (documentation == null) {
+    private ResponseEntity<Json> respond(String key,
+                                         Supplier<Optional<Json>> serialize,
+                                         HttpServletRequest servletRequest,
+                                         HttpServletResponse servletResponse) throws IOException {
+        if (!serializedDocumentation.isEnabled()) {
+            return serialize.get()
+                    .transform(toResponseEntity(Json.class))
+                    .or(new ResponseEntity<Json>(HttpStatus.NOT_FOUND));
+        }
+        Optional<SerializedDocumentation> documentation = serializedDocumentation.get(key, serialize);
+        if (!documentation.isPresent()) {
             return new ResponseEntity<Json>(HttpStatus.NOT_FOUND);
         }
-        Multimap<String, springfox.documentation.service.ApiListing> apiListingMap = documentation.getApiListings();
-        Map<String, Collection<ApiListing>> dtoApiListings
-                = transformEntries(apiListingMap, toApiListingDto(mapper)).asMap();
-
-        Collection<ApiListing> apiListings = dtoApiListings.get(apiDeclaration);
-        return mergedApiListing(apiListings)
-                .transform(toJson())
-                .transform(toResponseEntity(Json.class))
-                .or(new ResponseEntity<Json>(HttpStatus.NOT_FOUND));
+        return serialized(documentation.get(), servletRequest, servletResponse, gzip);
     }
 
-    private Function<ApiListing, Json> toJson() {
-        return new Function<ApiListing, Json>() {
-            @Override
-            public Json apply(ApiListing input) {
-                return jsonSerializer.toJson(input);
+    private Optional<Json> getSwaggerApiListing(String groupName, String apiDeclaration) {
+        Optional<Json> snapshot = fromSnapshot(groupName, apiDeclaration(apiDeclaration));
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
+        Documentation documentation = documentationCache.documentationByGroup(groupName);
+        if (documentation == null) {
+            return Optional.absent();
+        }
+        if (snapshots.isEnabled()) {
+            writeSnapshots(groupName, documentation);
+            snapshot = fromSnapshot(groupName, apiDeclaration(apiDeclaration));
+            if (snapshot.isPresent()) {
+                return snapshot;
             }
-        };
+        }
+        return Optional.fromNullable(apiDeclarations.getUnchecked(documentation).get(apiDeclaration));
     }
 
-    private ResponseEntity<Json> getSwaggerResourceListing(String swaggerGroup) {
-        String groupName = Optional.fromNullable(swaggerGroup).or(Docket.DEFAULT_GROUP_NAME);
+    private Optional<Json> getSwaggerResourceListing(String groupName) {
+        Optional<Json> snapshot = fromSnapshot(groupName, RESOURCE_LISTING);
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
         Documentation documentation = documentationCache.documentationByGroup(groupName);
         if (documentation == null) {
-            return new ResponseEntity<Json>(HttpStatus.NOT_FOUND);
+            return Optional.absent();
+        }
+        if (snapshots.isEnabled()) {
+            writeSnapshots(groupName, documentation);
+            snapshot = fromSnapshot(groupName, RESOURCE_LISTING);
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
         }
         springfox.documentation.service.ResourceListing listing = documentation.getResourceListing();
         ResourceListing resourceListing = mapper.toSwaggerResourceListing(listing);
 
-        return Optional.fromNullable(jsonSerializer.toJson(resourceListing))
-                .transform(toResponseEntity(Json.class))
-                .or(new ResponseEntity<Json>(HttpStatus.NOT_FOUND));
+        return Optional.fromNullable(jsonSerializer.toStreamingJson(resourceListing));
+    }
+
+    private Optional<Json> fromSnapshot(String groupName, String format) {
+        Optional<byte[]> snapshot = snapshots.read(groupName, format);
+        if (snapshot.isPresent()) {
+            return Optional.of(new Json(new String(snapshot.get(), UTF_8)));
+        }
+        return Optional.absent();
+    }
+
+    private void writeSnapshots(String groupName, Documentation documentation) {
+        for (Map.Entry<String, byte[]> each : documentationWriter.write(documentation).entrySet()) {
+            snapshots.write(groupName, each.getKey(), each.getValue(), documentation);
+        }
     }
 
     private <T> Function<T, ResponseEntity<T>> toResponseEntity(Class<T> clazz) {
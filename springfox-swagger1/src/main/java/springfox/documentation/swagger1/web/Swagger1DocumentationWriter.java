@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.swagger1.web;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spring.web.DocumentationWriter;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.swagger1.dto.ApiListing;
+import springfox.documentation.swagger1.mappers.ServiceModelToSwaggerMapper;
+
+import java.util.Collection;
+import java.util.Map;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.collect.Maps.newLinkedHashMap;
+import static com.google.common.collect.Multimaps.transformEntries;
+import static springfox.documentation.swagger1.mappers.Mappers.toApiListingDto;
+import static springfox.documentation.swagger1.web.ApiListingMerger.mergedApiListing;
+
+/**
+ * Writes the swagger 1.2 resource listing and api declarations of a group.
+ */
+@Component
+public class Swagger1DocumentationWriter implements DocumentationWriter {
+    public static final String RESOURCE_LISTING = "swagger12";
+
+    private final ServiceModelToSwaggerMapper mapper;
+    private final JsonSerializer jsonSerializer;
+
+    @Autowired
+    public Swagger1DocumentationWriter(ServiceModelToSwaggerMapper mapper, JsonSerializer jsonSerializer) {
+        this.mapper = mapper;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    public static String apiDeclaration(String name) {
+        return String.format("%s-%s", RESOURCE_LISTING, name);
+    }
+
+    @Override
+    public Map<String, byte[]> write(Documentation documentation) {
+        ImmutableMap.Builder<String, byte[]> formats = ImmutableMap.builder();
+        formats.put(RESOURCE_LISTING, toJson(mapper.toSwaggerResourceListing(documentation.getResourceListing())));
+        for (Map.Entry<String, ApiListing> each : apiDeclarations(documentation).entrySet()) {
+            formats.put(apiDeclaration(each.getKey()), toJson(each.getValue()));
+        }
+        return formats.build();
+    }
+
+    /**
+     * @param documentation - the documentation of a group
+     * @return the api declarations of the group by name, with the listings of each declaration merged
+     */
+    public Map<String, ApiListing> apiDeclarations(Documentation documentation) {
+        Map<String, ApiListing> apiDeclarations = newLinkedHashMap();
+        Map<String, Collection<ApiListing>> apiListings
+                = transformEntries(documentation.getApiListings(), toApiListingDto(mapper)).asMap();
+        for (Map.Entry<String, Collection<ApiListing>> each : apiListings.entrySet()) {
+            Optional<ApiListing> apiListing = mergedApiListing(each.getValue());
+            if (apiListing.isPresent()) {
+                apiDeclarations.put(each.getKey(), apiListing.get());
+            }
+        }
+        return apiDeclarations;
+    }
+
+    private byte[] toJson(Object toSerialize) {
+        return jsonSerializer.toJson(toSerialize).value().getBytes(UTF_8);
+    }
+}
@@ -48,6 +48,8 @@ import springfox.documentation.service.Documentation
 import springfox.documentation.service.SecurityScheme
 import springfox.documentation.service.SecurityScheme
 import springfox.documentation.spring.web.DocumentationCache
+import springfox.documentation.spring.web.DocumentationSnapshots
+import springfox.documentation.spring.web.SerializedDocumentationCache
 import springfox.documentation.spring.web.DocumentationCache
 import springfox.documentation.spring.web.json.JsonSerializer
 import springfox.documentation.spring.web.json.JsonSerializer
@@ -72,6 +74,8 @@ import springfox.documentation.swagger1.configuration.SwaggerJacksonModule
 import springfox.documentation.swagger1.mixins.MapperSupport
 import springfox.documentation.swagger1.mixins.MapperSupport
 
+import java.util.zip.GZIPInputStream
+
 import static com.google.common.collect.Maps.*
 import static com.google.common.collect.Maps.newHashMap
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*
@@ -102,6 +106,10 @@ class Swagger1ControllerSpec extends DocumentationContextSpec {
         listingReferenceScanner.scan(_) >> new ApiListingReferenceScanResult(newHashMap())
         listingScanner.scan(_) >> LinkedListMultimap.create()
         controller.mapper = serviceMapper()
+        controller.snapshots = new DocumentationSnapshots()
+        controller.serializedDocumentation = new SerializedDocumentationCache(controller.documentationCache, 32)
+        controller.gzip = false
+        controller.documentationWriter = new Swagger1DocumentationWriter(controller.mapper, controller.jsonSerializer)
         def jackson2 = new MappingJackson2HttpMessageConverter()
         jackson2.setSupportedMediaTypes([MediaType.ALL, MediaType.APPLICATION_JSON])
 
@@ -171,4 +179,49 @@ class Swagger1ControllerSpec extends DocumentationContextSpec {
         result.getResponse().getStatus() == 200
         assertDefaultAuth(json)
     }
-}
\ No newline at end of file
+
+    def "should serve the compressed api listing to clients that accept gzip"() {
+        given:
+        controller.gzip = true
+        Multimap<String, ApiListing> listings = LinkedListMultimap.<String, ApiListing> create()
+        listings.put('businesses', apiListing())
+        and:
+        Documentation group = new DocumentationBuilder()
+                .name("groupName")
+                .apiListingsByResourceGroupName(listings)
+                .build()
+        controller.documentationCache.addDocumentation(group)
+        when:
+        MvcResult compressed = mockMvc.perform(get("/api-docs/groupName/businesses").header("Accept-Encoding", "gzip"))
+                .andReturn()
+        MvcResult plain = mockMvc.perform(get("/api-docs/groupName/businesses")).andReturn()
+        then:
+        compressed.response.status == 200
+        compressed.response.getHeader("Content-Encoding") == "gzip"
+        new GZIPInputStream(new ByteArrayInputStream(compressed.response.contentAsByteArray)).getText("UTF-8") ==
+                plain.response.contentAsString
+    }
+
+    def "should serve every api declaration of a group from an index built once"() {
+        given:
+        def writer = Spy(Swagger1DocumentationWriter, constructorArgs: [controller.mapper, controller.jsonSerializer])
+        controller.documentationWriter = writer
+        controller.serializedDocumentation = new SerializedDocumentationCache(controller.documentationCache, 0)
+        Multimap<String, ApiListing> listings = LinkedListMultimap.<String, ApiListing> create()
+        listings.put('businesses', apiListing())
+        listings.put('customers', apiListing())
+        and:
+        Documentation group = new DocumentationBuilder()
+                .name("groupName")
+                .apiListingsByResourceGroupName(listings)
+                .build()
+        controller.documentationCache.addDocumentation(group)
+        when:
+        def statuses = ["businesses", "customers", "businesses", "unknown"].collect {
+            mockMvc.perform(get("/api-docs/groupName/$it")).andReturn().response.status
+        }
+        then:
+        1 * writer.apiDeclarations(group)
+        statuses == [200, 200, 200, 404]
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.swagger2.web;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import springfox.documentation.spring.web.json.Json;
+import springfox.documentation.spring.web.json.SplicedJson;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static springfox.documentation.swagger2.web.Swagger2DocumentationWriter.HOST_PLACEHOLDER;
+
+/**
+ * Serialized swagger 2.0 documentation, split around the placeholder of its host member. The host member keeps the
+ * position it has when the documentation is serialized with its host, and serving the documentation for a host only
+ * splices the host in between the parts that are held. The host member is found whether or not the object mapper
+ * indents its output.
+ */
+class HostTemplate {
+    private static final String PLACEHOLDER = "\"" + HOST_PLACEHOLDER + "\"";
+    private static final Pattern HOST_MEMBER = Pattern.compile("\"host\"\\s*:\\s*" + Pattern.quote(PLACEHOLDER));
+
+    private final String template;
+    private final String prefix;
+    private final String suffix;
+    private final Json unspliced;
+
+    private HostTemplate(String template, String prefix, String suffix, Json unspliced) {
+        this.template = template;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.unspliced = unspliced;
+    }
+
+    /**
+     * @param json - serialized swagger 2.0 documentation, with or without a host placeholder
+     * @return the template of the documentation
+     */
+    static HostTemplate parse(String json) {
+        Matcher member = HOST_MEMBER.matcher(json);
+        if (!member.find()) {
+            return new HostTemplate(json, null, null, new Json(json));
+        }
+        String prefix = json.substring(0, member.end() - PLACEHOLDER.length());
+        String suffix = json.substring(member.end());
+        return new HostTemplate(json, prefix, suffix, new Json(withoutMember(json, member.start(), member.end())));
+    }
+
+    boolean isHostless() {
+        return prefix != null;
+    }
+
+    String template() {
+        return template;
+    }
+
+    /**
+     * @param host - the host the documentation is served for, the host member is left out when there is none
+     * @return the documentation served for the host
+     */
+    Json json(String host) {
+        if (!isHostless() || host == null) {
+            return unspliced;
+        }
+        String quoted = new StringBuilder(host.length() + 2)
+                .append('"')
+                .append(JsonStringEncoder.getInstance().quoteAsString(host))
+                .append('"')
+                .toString();
+        return new SplicedJson(prefix, quoted, suffix);
+    }
+
+    private static String withoutMember(String json, int start, int end) {
+        int before = start - 1;
+        while (Character.isWhitespace(json.charAt(before))) {
+            before--;
+        }
+        if (json.charAt(before) == ',') {
+            return json.substring(0, before) + json.substring(end);
+        }
+        int after = end;
+        while (Character.isWhitespace(json.charAt(after))) {
+            after++;
+        }
+        if (json.charAt(after) == ',') {
+            return json.substring(0, start) + json.substring(after + 1);
+        }
+        return json.substring(0, start) + json.substring(end);
+    }
+}
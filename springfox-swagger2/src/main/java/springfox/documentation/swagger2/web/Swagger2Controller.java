@@ -19,7 +19,9 @@
 
 package springfox.documentation.swagger2.web;
 
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
+import com.google.common.base.Supplier;
 import io.swagger.models.Swagger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,16 +36,26 @@ import org.springframework.web.util.UriComponents;
 import springfox.documentation.annotations.ApiIgnore;
 import springfox.documentation.service.Documentation;
 import springfox.documentation.spring.web.DocumentationCache;
+import springfox.documentation.spring.web.DocumentationSnapshots;
+import springfox.documentation.spring.web.SerializedDocumentation;
+import springfox.documentation.spring.web.SerializedDocumentationCache;
 import springfox.documentation.spring.web.json.Json;
 import springfox.documentation.spring.web.json.JsonSerializer;
 import springfox.documentation.spring.web.plugins.Docket;
 import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static springfox.documentation.spring.web.DocumentationResponses.notReady;
+import static springfox.documentation.spring.web.DocumentationResponses.serialized;
 import static springfox.documentation.swagger2.web.HostNameProvider.componentsFrom;
+import static springfox.documentation.swagger2.web.Swagger2DocumentationWriter.SWAGGER2;
+import static springfox.documentation.swagger2.web.Swagger2DocumentationWriter.SWAGGER2_HOSTLESS;
 
 @Controller
 @ApiIgnore
@@ -55,9 +67,27 @@ public class Swagger2Controller {
     @Value("${springfox.documentation.swagger.v2.host:DEFAULT}")
     private String hostNameOverride;
 
+    @Value("${springfox.documentation.bootstrap.retry-after:5}")
+    private int retryAfterSeconds;
+
+    @Value("${springfox.documentation.response-cache.gzip:false}")
+    private boolean gzip;
+
+    @Value("${springfox.documentation.swagger.v2.memoize:false}")
+    private boolean memoize;
+
     @Autowired
     private DocumentationCache documentationCache;
 
+    @Autowired
+    private DocumentationSnapshots snapshots;
+
+    @Autowired
+    private SerializedDocumentationCache serializedDocumentation;
+
+    @Autowired
+    private Swagger2DocumentationWriter documentationWriter;
+
     @Autowired
     private ServiceModelToSwagger2Mapper mapper;
 
@@ -71,18 +101,79 @@ public class Swagger2Controller {
     @ResponseBody
     ResponseEntity<Json> getDocumentation(
             @RequestParam(value = "group", required = false) String swaggerGroup,
-            HttpServletRequest servletRequest) {
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse) throws IOException {
+
+        if (!documentationCache.isReady()) {
+            return notReady(retryAfterSeconds);
+        }
+        final String groupName = Optional.fromNullable(swaggerGroup).or(Docket.DEFAULT_GROUP_NAME);
+        final String host = hostName(servletRequest);
+        if (!serializedDocumentation.isEnabled()) {
+            return serialize(groupName, host)
+                    .transform(ok())
+                    .or(new ResponseEntity<Json>(HttpStatus.NOT_FOUND));
+        }
+        Optional<SerializedDocumentation> documentation = serializedDocumentation.get(
+                String.format("swagger2:%s@%s", groupName, host),
+                new Supplier<Optional<Json>>() {
+                    @Override
+                    public Optional<Json> get() {
+                        return serialize(groupName, host);
+                    }
+                });
+        if (!documentation.isPresent()) {
+            return new ResponseEntity<Json>(HttpStatus.NOT_FOUND);
+        }
+        return serialized(documentation.get(), servletRequest, servletResponse, gzip);
+    }
 
-        String groupName = Optional.fromNullable(swaggerGroup).or(Docket.DEFAULT_GROUP_NAME);
+    private Optional<Json> serialize(String groupName, String host) {
+        Optional<Json> snapshot = fromSnapshot(groupName, host);
+        if (snapshot.isPresent()) {
+            return snapshot;
+        }
         Documentation documentation = documentationCache.documentationByGroup(groupName);
         if (documentation == null) {
-            return new ResponseEntity<Json>(HttpStatus.NOT_FOUND);
+            return Optional.absent();
+        }
+        if (snapshots.isEnabled()) {
+            for (Map.Entry<String, byte[]> each : documentationWriter.write(documentation).entrySet()) {
+                snapshots.write(groupName, each.getKey(), each.getValue(), documentation);
+            }
+            snapshot = fromSnapshot(groupName, host);
+            if (snapshot.isPresent()) {
+                return snapshot;
+            }
+        }
+        if (memoize) {
+            return Optional.of(documentationWriter.json(documentation, host));
         }
         Swagger swagger = mapper.mapDocumentation(documentation);
         if (isNullOrEmpty(swagger.getHost())) {
-            swagger.host(hostName(servletRequest));
+            swagger.host(host);
+        }
+        return Optional.of(jsonSerializer.toStreamingJson(swagger));
+    }
+
+    private Function<Json, ResponseEntity<Json>> ok() {
+        return new Function<Json, ResponseEntity<Json>>() {
+            @Override
+            public ResponseEntity<Json> apply(Json input) {
+                return new ResponseEntity<Json>(input, HttpStatus.OK);
+            }
+        };
+    }
+
+    private Optional<Json> fromSnapshot(String groupName, String host) {
+        Optional<byte[]> snapshot = snapshots.read(groupName, SWAGGER2);
+        if (!snapshot.isPresent()) {
+            snapshot = snapshots.read(groupName, SWAGGER2_HOSTLESS);
+        }
+        if (snapshot.isPresent()) {
+            return Optional.of(documentationWriter.json(snapshot.get(), host));
         }
-        return new ResponseEntity<Json>(jsonSerializer.toJson(swagger), HttpStatus.OK);
+        return Optional.absent();
     }
 
     private String hostName(HttpServletRequest servletRequest) {
@@ -0,0 +1,120 @@
+/*
+ *
+ *  Copyright 2015 the original author or authors.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ *
+ */
+
+package springfox.documentation.swagger2.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import io.swagger.models.Swagger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import springfox.documentation.service.Documentation;
+import springfox.documentation.spring.web.DocumentationWriter;
+import springfox.documentation.spring.web.json.Json;
+import springfox.documentation.spring.web.json.JsonSerializer;
+import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import static com.google.common.base.Charsets.UTF_8;
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static com.google.common.base.Throwables.propagate;
+
+/**
+ * Writes the swagger 2.0 documentation of a group. Documentation without a host of its own is written with a
+ * placeholder in place of the host, the host of each request is spliced in when it is served.
+ * <p/>
+ * The serialized form is kept for as long as the documentation it was mapped from is in use, so the documentation of a
+ * group is mapped and serialized once however many hosts it is served for.
+ */
+@Component
+public class Swagger2DocumentationWriter implements DocumentationWriter {
+    public static final String SWAGGER2 = "swagger2";
+    public static final String SWAGGER2_HOSTLESS = "swagger2-hostless";
+    static final String HOST_PLACEHOLDER = "springfox-host-placeholder";
+
+    private final ServiceModelToSwagger2Mapper mapper;
+    private final JsonSerializer jsonSerializer;
+    private final Cache<Documentation, HostTemplate> serialized = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+    private final Cache<byte[], HostTemplate> snapshots = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build();
+
+    @Autowired
+    public Swagger2DocumentationWriter(ServiceModelToSwagger2Mapper mapper, JsonSerializer jsonSerializer) {
+        this.mapper = mapper;
+        this.jsonSerializer = jsonSerializer;
+    }
+
+    @Override
+    public Map<String, byte[]> write(Documentation documentation) {
+        HostTemplate swagger = serialize(documentation);
+        String format = swagger.isHostless() ? SWAGGER2_HOSTLESS : SWAGGER2;
+        return ImmutableMap.of(format, swagger.template().getBytes(UTF_8));
+    }
+
+    /**
+     * @param documentation - the documentation of a group
+     * @param host          - the host the documentation is served for, used unless the documentation has its own
+     * @return the swagger 2.0 json of the documentation
+     */
+    public Json json(Documentation documentation, String host) {
+        return serialize(documentation).json(host);
+    }
+
+    /**
+     * @param snapshot - a snapshot in the {@link #SWAGGER2_HOSTLESS} format
+     * @param host     - the host the documentation is served for
+     * @return the swagger 2.0 json of the snapshot
+     */
+    public Json json(final byte[] snapshot, String host) {
+        try {
+            return snapshots.get(snapshot, new Callable<HostTemplate>() {
+                @Override
+                public HostTemplate call() throws Exception {
+                    return HostTemplate.parse(new String(snapshot, UTF_8));
+                }
+            }).json(host);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private HostTemplate serialize(final Documentation documentation) {
+        try {
+            return serialized.get(documentation, new Callable<HostTemplate>() {
+                @Override
+                public HostTemplate call() throws Exception {
+                    Swagger swagger = mapper.mapDocumentation(documentation);
+                    if (isNullOrEmpty(swagger.getHost())) {
+                        swagger.host(HOST_PLACEHOLDER);
+                    }
+                    return HostTemplate.parse(jsonSerializer.toJson(swagger).value());
+                }
+            });
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+}
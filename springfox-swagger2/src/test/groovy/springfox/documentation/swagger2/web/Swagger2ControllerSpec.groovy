@@ -1,9 +1,11 @@
 package springfox.documentation.swagger2.web
 
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.SerializationFeature
 import com.fasterxml.jackson.databind.ObjectMapper
 import com.google.common.collect.LinkedListMultimap
 import com.google.common.collect.LinkedListMultimap
+import com.google.common.io.Files
 import com.jayway.jsonpath.JsonPath
 import com.jayway.jsonpath.JsonPath
 import org.springframework.http.MediaType
@@ -16,12 +18,16 @@ import org.springframework.test.web.servlet.MvcResult
 import org.springframework.test.web.servlet.MvcResult
 import org.springframework.web.servlet.View
 import org.springframework.web.servlet.View
+import com.google.common.util.concurrent.SettableFuture
 import spock.lang.Shared
 import spock.lang.Shared
 import spock.lang.Unroll
 import spock.lang.Unroll
 import springfox.documentation.spring.web.DocumentationCache
 import springfox.documentation.spring.web.DocumentationCache
+import springfox.documentation.spring.web.DocumentationSnapshots
+import springfox.documentation.spring.web.SerializedDocumentationCache
+import springfox.documentation.spring.web.json.JacksonModuleRegistrar
 import springfox.documentation.spring.web.json.JsonSerializer
 import springfox.documentation.spring.web.json.JsonSerializer
 import springfox.documentation.spring.web.mixins.ApiListingSupport
@@ -44,6 +50,9 @@ import springfox.documentation.swagger2.configuration.Swagger2JacksonModule
 import springfox.documentation.swagger2.configuration.Swagger2JacksonModule
 import springfox.documentation.swagger2.mappers.MapperSupport
 import springfox.documentation.swagger2.mappers.MapperSupport
+import springfox.documentation.swagger2.mappers.ServiceModelToSwagger2Mapper
+
+import java.util.zip.GZIPInputStream
 
 import static com.google.common.collect.Maps.*
 import static com.google.common.collect.Maps.newHashMap
@@ -67,12 +76,17 @@ class Swagger2ControllerSpec extends DocumentationContextSpec implements MapperS
 
     def setup() {
         controller.documentationCache = new DocumentationCache()
+        controller.snapshots = new DocumentationSnapshots()
+        controller.serializedDocumentation = new SerializedDocumentationCache(controller.documentationCache, 32)
+        controller.gzip = false
+        controller.memoize = true
         controller.jsonSerializer = new JsonSerializer([new Swagger2JacksonModule()])
         listingReferenceScanner = Mock(ApiListingReferenceScanner)
         listingReferenceScanner.scan(_) >> new ApiListingReferenceScanResult(newHashMap())
         listingScanner = Mock(ApiListingScanner)
         listingScanner.scan(_) >> LinkedListMultimap.create()
         controller.mapper = swagger2Mapper()
+        controller.documentationWriter = new Swagger2DocumentationWriter(controller.mapper, controller.jsonSerializer)
         def jackson2 = new MappingJackson2HttpMessageConverter()
 
         jackson2.setSupportedMediaTypes([MediaType.ALL, MediaType.APPLICATION_JSON])
@@ -108,6 +122,20 @@ class Swagger2ControllerSpec extends DocumentationContextSpec implements MapperS
         "/v2/api-docs?group=unknown" | 404
     }
 
+    def "Should respond with service unavailable while the documentation is being scanned"() {
+        given:
+        controller.documentationCache.scanning(SettableFuture.create())
+        controller.retryAfterSeconds = 5
+        when:
+        MvcResult result = mockMvc
+                .perform(get("/v2/api-docs"))
+                .andDo(print())
+                .andReturn()
+        then:
+        result.getResponse().getStatus() == 503
+        result.getResponse().getHeader("Retry-After") == "5"
+    }
+
     def "Should omit port number if it is -1"() {
         given:
         ApiDocumentationScanner swaggerApiResourceListing =
@@ -129,4 +157,186 @@ class Swagger2ControllerSpec extends DocumentationContextSpec implements MapperS
         result.getResponse().getStatus() == 200
     }
 
-}
\ No newline at end of file
+    def "Should serve the documentation from its snapshot once it is written"() {
+        given:
+        def directory = Files.createTempDir()
+        controller.snapshots.snapshotDirectory = directory.absolutePath
+        controller.snapshots.restore(context())
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult first = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        MvcResult second = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        then:
+        new File(directory, "default.swagger2-hostless.json").exists()
+        JsonPath.read(second.response.contentAsString, "\$.host") == "localhost"
+        second.response.contentAsString == first.response.contentAsString
+        cleanup:
+        directory.deleteDir()
+    }
+
+    def "Should serve precomputed documentation from the classpath"() {
+        given:
+        controller.snapshots.precomputed = true
+        plugin.groupName("precomputed")
+        controller.snapshots.restore(context())
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult result = mockMvc.perform(get("/v2/api-docs?group=precomputed")).andReturn()
+        then:
+        result.response.status == 200
+        JsonPath.read(result.response.contentAsString, "\$.host") == "localhost"
+        JsonPath.read(result.response.contentAsString, "\$.info.title") == "Precomputed"
+    }
+
+    def "Should answer with not modified when the client holds the current documentation"() {
+        given:
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        when:
+        MvcResult first = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        String eTag = first.response.getHeader("ETag")
+        MvcResult second = mockMvc.perform(get("/v2/api-docs").header("If-None-Match", eTag)).andReturn()
+        then:
+        first.response.status == 200
+        eTag != null
+        second.response.status == 304
+        second.response.contentAsString == ""
+        second.response.getHeader("ETag") == eTag
+    }
+
+    def "Should answer with not modified when the client holds a weak tag of the current documentation"() {
+        given:
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        when:
+        MvcResult first = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        String eTag = first.response.getHeader("ETag")
+        MvcResult second = mockMvc.perform(get("/v2/api-docs").header("If-None-Match", "W/$eTag")).andReturn()
+        then:
+        second.response.status == 304
+        second.response.contentAsString == ""
+    }
+
+    def "Should serialize the documentation again once it changes"() {
+        given:
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        MvcResult first = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        when:
+        plugin.host("changed.example.com")
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        MvcResult second = mockMvc.perform(get("/v2/api-docs")
+                .header("If-None-Match", first.response.getHeader("ETag")))
+                .andReturn()
+        then:
+        second.response.status == 200
+        second.response.getHeader("ETag") != first.response.getHeader("ETag")
+        JsonPath.read(second.response.contentAsString, "\$.host") == "changed.example.com"
+    }
+
+    def "Should map the documentation once for all the hosts it is served for"() {
+        given:
+        def mapper = Mock(ServiceModelToSwagger2Mapper)
+        controller.documentationWriter = new Swagger2DocumentationWriter(mapper, controller.jsonSerializer)
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult first = mockMvc.perform(get("/v2/api-docs").header("X-Forwarded-Host", "first.example.com")).andReturn()
+        MvcResult second = mockMvc.perform(get("/v2/api-docs").header("X-Forwarded-Host", "second.example.com")).andReturn()
+        then:
+        1 * mapper.mapDocumentation(_) >> { args -> controller.mapper.mapDocumentation(args[0]) }
+        JsonPath.read(first.response.contentAsString, "\$.host") == "first.example.com"
+        JsonPath.read(second.response.contentAsString, "\$.host") == "second.example.com"
+    }
+
+    def "Should stream the documentation when the response cache is disabled"() {
+        given:
+        controller.serializedDocumentation = new SerializedDocumentationCache(controller.documentationCache, 0)
+        controller.memoize = false
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult result = mockMvc.perform(get("/v2/api-docs")).andReturn()
+        then:
+        result.response.status == 200
+        result.response.getHeader("ETag") == null
+        JsonPath.read(result.response.contentAsString, "\$.host") == "localhost"
+    }
+
+    def "Should serve the same documentation whether it is memoized or streamed"() {
+        given:
+        controller.serializedDocumentation = new SerializedDocumentationCache(controller.documentationCache, 0)
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        controller.memoize = true
+        MvcResult memoized = mockMvc.perform(get("/v2/api-docs").header("X-Forwarded-Host", "first.example.com")).andReturn()
+        controller.memoize = false
+        MvcResult streamed = mockMvc.perform(get("/v2/api-docs").header("X-Forwarded-Host", "first.example.com")).andReturn()
+        then:
+        memoized.response.contentAsString == streamed.response.contentAsString
+        JsonPath.read(memoized.response.contentAsString, "\$.host") == "first.example.com"
+        !memoized.response.contentAsString.contains(Swagger2DocumentationWriter.HOST_PLACEHOLDER)
+    }
+
+    def "Should splice the host into documentation serialized by an indenting object mapper"() {
+        given:
+        def indenting = [maybeRegisterModule: { ObjectMapper mapper ->
+            mapper.enable(SerializationFeature.INDENT_OUTPUT)
+        }] as JacksonModuleRegistrar
+        controller.jsonSerializer = new JsonSerializer([new Swagger2JacksonModule(), indenting])
+        controller.documentationWriter = new Swagger2DocumentationWriter(controller.mapper, controller.jsonSerializer)
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult result = mockMvc.perform(get("/v2/api-docs").header("X-Forwarded-Host", "first.example.com")).andReturn()
+        then:
+        result.response.contentAsString.contains("\"host\" : ")
+        JsonPath.read(result.response.contentAsString, "\$.host") == "first.example.com"
+        !result.response.contentAsString.contains(Swagger2DocumentationWriter.HOST_PLACEHOLDER)
+    }
+
+    def "Should serve the compressed documentation to clients that accept gzip"() {
+        given:
+        controller.gzip = true
+        ApiDocumentationScanner swaggerApiResourceListing =
+                new ApiDocumentationScanner(listingReferenceScanner, listingScanner)
+        controller.documentationCache.addDocumentation(swaggerApiResourceListing.scan(context()))
+        and:
+        controller.hostNameOverride = "DEFAULT"
+        when:
+        MvcResult compressed = mockMvc.perform(get("/v2/api-docs").header("Accept-Encoding", "gzip, deflate")).andReturn()
+        MvcResult plain = mockMvc.perform(get("/v2/api-docs").header("Accept-Encoding", "gzip;q=0")).andReturn()
+        then:
+        compressed.response.status == 200
+        compressed.response.getHeader("Content-Encoding") == "gzip"
+        compressed.response.getHeader("Vary") == "Accept-Encoding"
+        def json = new GZIPInputStream(new ByteArrayInputStream(compressed.response.contentAsByteArray)).getText("UTF-8")
+        json == plain.response.contentAsString
+        JsonPath.read(json, "\$.host") == "localhost"
+        and:
+        plain.response.getHeader("Content-Encoding") == null
+        plain.response.getHeader("ETag") != compressed.response.getHeader("ETag")
+    }
+
+}
@@ -8,6 +8,7 @@ import org.skyscreamer.jsonassert.JSONAssert
 import org.skyscreamer.jsonassert.JSONAssert
 import org.skyscreamer.jsonassert.JSONCompareMode
 import org.skyscreamer.jsonassert.JSONCompareMode
+import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.boot.test.IntegrationTest
@@ -27,6 +28,8 @@ import org.springframework.http.HttpStatus
 import org.springframework.http.MediaType
 import org.springframework.http.MediaType
 import org.springframework.http.RequestEntity
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
 import org.springframework.http.RequestEntity
 import org.springframework.test.context.ContextConfiguration
 import org.springframework.test.context.ContextConfiguration
@@ -43,6 +46,8 @@ import spock.lang.Shared
 import spock.lang.Specification
 import spock.lang.Specification
 import spock.lang.Unroll
+import springfox.documentation.spring.web.json.StreamingJson
+import springfox.documentation.swagger2.web.Swagger2Controller
 import spock.lang.Unroll
 
 import static org.skyscreamer.jsonassert.JSONCompareMode.*
@@ -62,6 +67,9 @@ public class FunctionContractSpec extends Specification implements FileAccess {
     @Value('${local.server.port}')
     int port;
 
+    @Autowired
+    Swagger2Controller controller
+
     @Unroll
     def 'should honor swagger v2 resource listing #groupName'() {
         given:
@@ -201,6 +209,22 @@ public class FunctionContractSpec extends Specification implements FileAccess {
         }
     }
 
+    def "should stream the swagger 2.0 documentation with the default settings"() {
+        given:
+        RequestEntity<Void> request = RequestEntity.get(
+                new URI("http://localhost:$port/v2/api-docs?group=businessService"))
+                .accept(MediaType.APPLICATION_JSON)
+                .build()
+        when:
+        def response = http.exchange(request, String)
+        def documentation = controller.getDocumentation("businessService",
+                new MockHttpServletRequest(), new MockHttpServletResponse())
+        then:
+        response.statusCode == HttpStatus.OK
+        response.headers.getETag() == null
+        documentation.body instanceof StreamingJson
+    }
+
     @Configuration
     @ComponentScan([
             "springfox.documentation.spring.web.dummy.controllers",